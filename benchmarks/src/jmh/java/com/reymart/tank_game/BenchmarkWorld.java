@@ -0,0 +1,97 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.reymart.tank_game.headless.HeadlessEnvironment;
+
+/**
+ * A {@link GameWorld} on the headless backend holding only the player. Benchmarks add enemies
+ * at exact positions so every run measures the same layout, and switch off every system except
+ * the ones under test. The benchmarks live in the game's package so they can reach the
+ * package-private collision hooks on {@link CollisionSystem}.
+ */
+final class BenchmarkWorld {
+    static final float TICK_DURATION = 1f / 60f;
+
+    final Assets assets;
+    final SoundBank soundBank;
+    final GameWorld world;
+
+    BenchmarkWorld() {
+        HeadlessEnvironment.start();
+
+        assets = new Assets();
+        soundBank = new SoundBank();
+        assets.finishLoading();
+        soundBank.finishLoading();
+        world = new GameWorld(new OrthographicCamera(), assets, soundBank);
+        world.setSeed(1L);
+        world.createPlayerTank();
+        Mappers.health.get(world.getPlayerTank()).current = Integer.MAX_VALUE;
+    }
+
+    /** Leaves only the given systems running when the engine updates. */
+    @SafeVarargs
+    final void runOnly(Class<? extends EntitySystem>... systemTypes) {
+        ImmutableArray<EntitySystem> systems = world.getSystems();
+        for (int i = 0; i < systems.size(); i++) {
+            EntitySystem system = systems.get(i);
+            boolean selected = false;
+            for (Class<? extends EntitySystem> type : systemTypes) {
+                selected |= type.isInstance(system);
+            }
+            system.setProcessing(selected && !(system instanceof RenderSystem));
+        }
+    }
+
+    <T extends EntitySystem> T system(Class<T> type) {
+        return world.getEngine().getSystem(type);
+    }
+
+    void movePlayer(float x, float y) {
+        moveTo(world.getPlayerTank(), x, y);
+    }
+
+    /** Teleports a tank and keeps its hitbox and grid cells in step. */
+    void moveTo(Entity tank, float x, float y) {
+        Mappers.position.get(tank).set(x, y);
+        HitboxComponent hitbox = Mappers.hitbox.get(tank);
+        hitbox.sync(Mappers.position.get(tank));
+        world.getSpatialHash().update(tank, hitbox.bounds);
+    }
+
+    /**
+     * Adds {@code count} enemies on a square lattice with the given spacing, keeping only lattice
+     * points whose distance to the player lies in {@code [minDistance, maxDistance]}.
+     *
+     * @throws IllegalStateException if the ring cannot hold that many tanks
+     */
+    Array<Entity> addEnemiesAroundPlayer(int count, float minDistance, float maxDistance, float spacing) {
+        PositionComponent player = Mappers.position.get(world.getPlayerTank());
+        Array<Entity> tanks = new Array<>(count);
+        float limit = GameWorld.WORLD_WIDTH - 64f;
+        for (float y = 0; y <= limit && tanks.size < count; y += spacing) {
+            for (float x = 0; x <= limit && tanks.size < count; x += spacing) {
+                float distance = Vector2.dst(x, y, player.x, player.y);
+                if (distance >= minDistance && distance <= maxDistance) {
+                    tanks.add(world.addEnemyTank(x, y));
+                }
+            }
+        }
+        if (tanks.size < count) {
+            throw new IllegalStateException("Only " + tanks.size + " of " + count + " tanks fit between "
+                + minDistance + " and " + maxDistance + " at spacing " + spacing);
+        }
+        return tanks;
+    }
+
+    void dispose() {
+        world.clear();
+        soundBank.dispose();
+        assets.dispose();
+    }
+}
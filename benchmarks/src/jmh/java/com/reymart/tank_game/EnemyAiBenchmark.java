@@ -0,0 +1,114 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one {@link EnemyAiSystem} plus {@link CollisionSystem} update over every enemy, with all
+ * of them held in a single AI mode.
+ * <p>
+ * The engine steps with a zero delta so that nothing moves and no timer runs down: each tank stays in
+ * the mode it was placed in for the whole run, and after the opening salvo fired during setup no tank
+ * fires again. What is measured is the decision, rotation and collision work of each mode.
+ * <p>
+ * The actor counts stop at 150 because that is roughly how many tanks fit in the chase ring around
+ * the player without touching; past that, chasing tanks fall into the collision cooldown.
+ * <p>
+ * {@code parallel} switches the decide phase between the fork-join split and a single thread. Crowds
+ * smaller than one chunk are always decided on the calling thread, so only the larger counts differ.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EnemyAiBenchmark {
+    public enum Behaviour {
+        /** Further than the detection range from the player. */
+        WANDER,
+        /** Between the stop distance and the detection range, free to move. */
+        CHASE,
+        /** Inside the stop distance. */
+        STOP_AND_AIM,
+        /** Packed in the chase ring, blocked, and re-checking neighbours every tick. */
+        COLLISION_COOLDOWN
+    }
+
+    private static final float PLAYER_POSITION = 2500f;
+    // Tanks must sit at least this far apart on the lattice to clear the 60px avoidance buffer
+    private static final float COLLISION_FREE_SPACING = 105f;
+    private static final float CROWDED_SPACING = 30f;
+
+    @Param({"10", "50", "150"})
+    public int actorCount;
+
+    @Param({"WANDER", "CHASE", "STOP_AND_AIM", "COLLISION_COOLDOWN"})
+    public Behaviour behaviour;
+
+    @Param({"true", "false"})
+    public boolean parallel;
+
+    private BenchmarkWorld fixture;
+    private Array<Entity> tanks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new BenchmarkWorld();
+        fixture.movePlayer(PLAYER_POSITION, PLAYER_POSITION);
+        fixture.system(EnemyAiSystem.class).setParallel(parallel);
+
+        switch (behaviour) {
+            case WANDER:
+                tanks = fixture.addEnemiesAroundPlayer(actorCount, 1100f, Float.MAX_VALUE, COLLISION_FREE_SPACING);
+                break;
+            case CHASE:
+                tanks = fixture.addEnemiesAroundPlayer(actorCount, 520f, 980f, COLLISION_FREE_SPACING);
+                break;
+            case STOP_AND_AIM:
+                tanks = fixture.addEnemiesAroundPlayer(actorCount, 0f, 450f, CROWDED_SPACING);
+                break;
+            case COLLISION_COOLDOWN:
+                tanks = fixture.addEnemiesAroundPlayer(actorCount, 520f, 980f, CROWDED_SPACING);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown behaviour: " + behaviour);
+        }
+
+        // Opening salvo: with a zero delta the shoot cooldown never runs down, so this is the only one
+        fixture.runOnly(EnemyAiSystem.class, CollisionSystem.class, WeaponSystem.class);
+        step();
+        fixture.runOnly(EnemyAiSystem.class, CollisionSystem.class);
+    }
+
+    @Benchmark
+    public void think() {
+        step();
+    }
+
+    private void step() {
+        if (behaviour == Behaviour.COLLISION_COOLDOWN) {
+            // Blocked with the cooldown already expired, so every tank re-checks its neighbours
+            for (int i = 0; i < tanks.size; i++) {
+                EnemyAiComponent ai = Mappers.enemyAi.get(tanks.get(i));
+                ai.canMove = false;
+                ai.collisionCooldown = 0f;
+            }
+        }
+        fixture.world.getEngine().update(0f);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.dispose();
+    }
+}
@@ -0,0 +1,75 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link CollisionSystem#resolveCollision} for every tank in a tightly packed crowd, where
+ * each call finds an overlapping neighbour and pushes the tank out. The crowd is put back in place
+ * before every invocation so each one separates the same overlaps.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResolveCollisionBenchmark {
+    private static final float CROWD_ORIGIN = 1500f;
+    private static final float CROWD_SPACING = 40f;
+
+    @Param({"10", "100", "1000"})
+    public int actorCount;
+
+    private BenchmarkWorld fixture;
+    private CollisionSystem collisionSystem;
+    private Array<Entity> tanks;
+    private float[] homeX;
+    private float[] homeY;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new BenchmarkWorld();
+        collisionSystem = fixture.system(CollisionSystem.class);
+        tanks = new Array<>(actorCount);
+        homeX = new float[actorCount];
+        homeY = new float[actorCount];
+
+        int columns = (int) Math.ceil(Math.sqrt(actorCount));
+        for (int i = 0; i < actorCount; i++) {
+            homeX[i] = CROWD_ORIGIN + (i % columns) * CROWD_SPACING;
+            homeY[i] = CROWD_ORIGIN + (i / columns) * CROWD_SPACING;
+            tanks.add(fixture.world.addEnemyTank(homeX[i], homeY[i]));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void restoreCrowd() {
+        for (int i = 0; i < tanks.size; i++) {
+            fixture.moveTo(tanks.get(i), homeX[i], homeY[i]);
+        }
+    }
+
+    @Benchmark
+    public void resolveCrowd() {
+        for (int i = 0; i < tanks.size; i++) {
+            Entity tank = tanks.get(i);
+            PositionComponent position = Mappers.position.get(tank);
+            collisionSystem.resolveCollision(tank, position.x, position.y);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.dispose();
+    }
+}
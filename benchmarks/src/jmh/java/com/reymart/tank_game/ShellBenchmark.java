@@ -0,0 +1,85 @@
+package com.reymart.tank_game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one {@link ProjectileSystem} tick for a volley of {@code shellCount} shells flying through a
+ * field of {@code actorCount} enemy tanks. Tanks stand in rows with an empty lane between each pair of rows
+ * and the shells fly along the lanes, so every tick runs the full broadphase query and swept hit tests
+ * against the neighbouring rows without ever scoring a hit. Shells that reach their range are
+ * replaced at the start of a lane, which keeps the volley size constant.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ShellBenchmark {
+    private static final float SHELL_RANGE = 1500f;
+    // A rotation of 180 degrees sends a shell along +x
+    private static final float SHELL_ROTATION = 180f;
+
+    private static final float FIELD_LEFT = 200f;
+    private static final float FIELD_RIGHT = 4800f;
+    private static final float FIELD_BOTTOM = 1100f;
+    private static final float COLUMN_SPACING = 80f;
+    // Rows 200px apart leave a lane 100px above each row that a 64px shell clears on both sides
+    private static final float ROW_SPACING = 200f;
+    private static final float LANE_OFFSET = 100f;
+
+    @Param({"10", "100", "1000"})
+    public int actorCount;
+
+    @Param({"64", "4096"})
+    public int shellCount;
+
+    private BenchmarkWorld fixture;
+    private ProjectileSystem shells;
+    private int rows;
+    private int nextLane;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new BenchmarkWorld();
+
+        int columns = (int) ((FIELD_RIGHT - FIELD_LEFT) / COLUMN_SPACING) + 1;
+        rows = (actorCount + columns - 1) / columns;
+        for (int i = 0; i < actorCount; i++) {
+            fixture.world.addEnemyTank(FIELD_LEFT + (i % columns) * COLUMN_SPACING, FIELD_BOTTOM + (i / columns) * ROW_SPACING);
+        }
+
+        shells = fixture.system(ProjectileSystem.class);
+        refill();
+    }
+
+    // Fires shells until the volley is back to full strength
+    private void refill() {
+        while (shells.getShellCount() < shellCount) {
+            int lane = nextLane++;
+            // Stagger the starting points so the shells do not all expire on the same tick
+            float x = FIELD_LEFT + (lane * 487) % (FIELD_RIGHT - FIELD_LEFT - SHELL_RANGE);
+            float y = FIELD_BOTTOM + (lane % rows) * ROW_SPACING + LANE_OFFSET;
+            shells.spawn(null, x, y, SHELL_ROTATION, SHELL_RANGE);
+        }
+    }
+
+    @Benchmark
+    public void fly() {
+        shells.update(BenchmarkWorld.TICK_DURATION);
+        refill();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.dispose();
+    }
+}
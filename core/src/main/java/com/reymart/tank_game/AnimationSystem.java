@@ -0,0 +1,17 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+
+// Advances each tank's animation time by one tick. Exploding tanks play their explosion from
+// ExplosionComponent.timer instead, and dormant tanks are off screen, so both are left alone.
+public class AnimationSystem extends TimedIteratingSystem {
+    public AnimationSystem(int priority) {
+        super(Family.all(TankSpriteComponent.class).exclude(ExplosionComponent.class, DormantComponent.class).get(), priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float delta) {
+        Mappers.tankSprite.get(entity).animationTime += delta;
+    }
+}
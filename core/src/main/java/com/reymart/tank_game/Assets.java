@@ -0,0 +1,133 @@
+package com.reymart.tank_game;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+
+public class Assets implements Disposable {
+    // Every sprite frame on one page, built from the per-sheet atlases by the packTextures Gradle task
+    public static final String SPRITES_ATLAS = "atlas/packed/sprites.atlas";
+
+    // Animations in the sprites atlas, named after the sheet they were packed from
+    public static final String TANK_MOVING = "tank_moving";
+    public static final String TANK_IDLE = "tank_idle";
+    public static final String TANK_TURRET = "tank_turret";
+    public static final String TANK_SHELL = "tank_shell";
+    public static final String ENEMY_TANK_MOVING = "enemy_tank_moving";
+    public static final String ENEMY_TANK_IDLE = "enemy_tank_idle";
+    public static final String ENEMY_TANK_TURRET = "enemy_tank_turret";
+    public static final String EXPLOSION = "explosion";
+    private static final String[] ANIMATIONS = {
+        TANK_MOVING, TANK_IDLE, TANK_TURRET, TANK_SHELL,
+        ENEMY_TANK_MOVING, ENEMY_TANK_IDLE, ENEMY_TANK_TURRET, EXPLOSION
+    };
+    private static final float FRAME_DURATION = 0.1f;
+    private static final int UPDATE_BUDGET_MILLIS = 8;
+
+    // The world picture is not loaded here; WorldBackground streams it as chunk images
+    private static final String[] ATLASES = {
+        SPRITES_ATLAS
+    };
+
+    // Owns the atlases for as long as the game runs, so they stay resident between spawns and restarts
+    private final AssetManager manager;
+    private final Texture pixelTexture;
+    private final TextureRegion pixel;
+    // Built once and shared by every entity; each entity keeps its own animation time
+    private final ObjectMap<String, Animation<TextureRegion>> animations = new ObjectMap<>();
+    private final GameEvents.AssetLoad loadEvent = new GameEvents.AssetLoad();
+    private boolean loaded;
+
+    // Queues the atlases on the manager's loader thread; call update() each frame or finishLoading() before use
+    public Assets() {
+        manager = new AssetManager();
+        loadEvent.begin();
+        for (String path : ATLASES) {
+            manager.load(path, TextureAtlas.class);
+        }
+
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(Color.WHITE);
+        pixmap.fill();
+        pixelTexture = ResourceTracker.track(new Texture(pixmap), this);
+        pixmap.dispose();
+        pixel = new TextureRegion(pixelTexture);
+    }
+
+    // Lets the manager decode on its own thread and upload finished textures here for up to a few milliseconds;
+    // true once every atlas is ready
+    public boolean update() {
+        if (!loaded && manager.update(UPDATE_BUDGET_MILLIS)) {
+            onLoaded();
+        }
+        return loaded;
+    }
+
+    public void finishLoading() {
+        if (!loaded) {
+            manager.finishLoading();
+            onLoaded();
+        }
+    }
+
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    private void onLoaded() {
+        for (String path : ATLASES) {
+            ResourceTracker.track(manager.get(path, TextureAtlas.class), this);
+        }
+        TextureAtlas sprites = manager.get(SPRITES_ATLAS, TextureAtlas.class);
+        for (String name : ANIMATIONS) {
+            animations.put(name, createAnimation(sprites, name));
+        }
+        loaded = true;
+        loadEvent.path = String.join(", ", ATLASES);
+        loadEvent.commit();
+    }
+
+    private static Animation<TextureRegion> createAnimation(TextureAtlas atlas, String regionName) {
+        Array<TextureAtlas.AtlasRegion> regions = atlas.findRegions(regionName);
+        if (regions.isEmpty()) {
+            throw new IllegalArgumentException("No frames named " + regionName + " in " + SPRITES_ATLAS);
+        }
+        // The packer does not keep frames in index order
+        regions.sort((a, b) -> Integer.compare(a.index, b.index));
+        return new Animation<TextureRegion>(FRAME_DURATION, regions, Animation.PlayMode.LOOP);
+    }
+
+    // A looping animation from the sprites atlas, one of the name constants above
+    public Animation<TextureRegion> getAnimation(String name) {
+        Animation<TextureRegion> animation = animations.get(name);
+        if (animation == null) {
+            throw new IllegalArgumentException("No animation named " + name);
+        }
+        return animation;
+    }
+
+    // Solid white texel for drawing tinted rectangles through a SpriteBatch
+    public TextureRegion getPixel() {
+        return pixel;
+    }
+
+    @Override
+    public void dispose() {
+        // The manager frees the atlases it loaded
+        for (String path : ATLASES) {
+            if (manager.isLoaded(path)) {
+                ResourceTracker.untrack(manager.get(path, TextureAtlas.class));
+            }
+        }
+        animations.clear();
+        manager.dispose();
+        ResourceTracker.dispose(pixelTexture);
+    }
+}
@@ -0,0 +1,129 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+// Keeps tanks from driving into each other. A chasing enemy that would come too close to another
+// tank is pushed clear and held for a cooldown; the player simply stops. Wandering enemies are not checked.
+public class CollisionSystem extends TimedIteratingSystem {
+    private static final float ENEMY_COLLISION_BUFFER = 60f;
+    private static final float PLAYER_COLLISION_BUFFER = 40f;
+    private static final float COLLISION_COOLDOWN_DURATION = 1f;
+
+    private final SpatialHash spatialHash;
+    private final Array<Entity> nearbyEntities = new Array<>();
+    private final Rectangle proposedHitbox = new Rectangle(); // Scratch area reused by every query
+
+    public CollisionSystem(GameWorld world, int priority) {
+        super(Family.all(PositionComponent.class, VelocityComponent.class, HitboxComponent.class)
+            .one(EnemyAiComponent.class, PlayerComponent.class)
+            .exclude(ExplosionComponent.class, DormantComponent.class).get(), priority);
+        this.spatialHash = world.getSpatialHash();
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float delta) {
+        PositionComponent position = Mappers.position.get(entity);
+        VelocityComponent velocity = Mappers.velocity.get(entity);
+        EnemyAiComponent ai = Mappers.enemyAi.get(entity);
+
+        if (ai == null) {
+            // Player: refuse the move if it would bring the hull too close to an enemy
+            if (isNearTank(entity, position.x + velocity.x * delta, position.y + velocity.y * delta, PLAYER_COLLISION_BUFFER, false)) {
+                velocity.setZero();
+            }
+            return;
+        }
+
+        if (!ai.canMove) {
+            ai.collisionCooldown -= delta;
+            if (ai.collisionCooldown <= 0) {
+                // Release the tank once nothing is close any more, otherwise wait another round
+                if (!isNearTank(entity, position.x, position.y, ENEMY_COLLISION_BUFFER, true)) {
+                    ai.canMove = true;
+                    ai.collisionCooldown = 0f;
+                } else {
+                    ai.collisionCooldown = COLLISION_COOLDOWN_DURATION;
+                }
+            }
+        }
+
+        if (ai.chasing) {
+            float newX = position.x + velocity.x * delta;
+            float newY = position.y + velocity.y * delta;
+            if (isNearTank(entity, newX, newY, ENEMY_COLLISION_BUFFER, true)) {
+                resolveCollision(entity, newX, newY);
+                velocity.setZero();
+                ai.canMove = false;
+                ai.collisionCooldown = COLLISION_COOLDOWN_DURATION;
+            }
+        }
+    }
+
+    // True if the tank's hitbox, grown by the buffer and moved to (x, y), overlaps an enemy or optionally the player
+    boolean isNearTank(Entity entity, float x, float y, float buffer, boolean includePlayer) {
+        setProposedHitbox(entity, x, y, buffer);
+
+        spatialHash.query(proposedHitbox, nearbyEntities);
+        for (int i = 0; i < nearbyEntities.size; i++) {
+            Entity other = nearbyEntities.get(i);
+            if (other == entity) continue;
+            if (!Mappers.enemyAi.has(other) && !(includePlayer && Mappers.player.has(other))) continue;
+
+            if (proposedHitbox.overlaps(Mappers.hitbox.get(other).bounds)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Separates the tank from the first enemy it would overlap at (newX, newY) along the axis of least overlap
+    void resolveCollision(Entity entity, float newX, float newY) {
+        setProposedHitbox(entity, newX, newY, ENEMY_COLLISION_BUFFER);
+        PositionComponent position = Mappers.position.get(entity);
+
+        spatialHash.query(proposedHitbox, nearbyEntities);
+        for (int i = 0; i < nearbyEntities.size; i++) {
+            Entity other = nearbyEntities.get(i);
+            if (other == entity || !Mappers.enemyAi.has(other)) continue;
+
+            HitboxComponent otherHitbox = Mappers.hitbox.get(other);
+            if (!proposedHitbox.overlaps(otherHitbox.bounds)) continue;
+
+            PositionComponent otherPosition = Mappers.position.get(other);
+            float overlapX = Math.min(position.x + position.width - otherPosition.x, otherPosition.x + otherPosition.width - position.x);
+            float overlapY = Math.min(position.y + position.height - otherPosition.y, otherPosition.y + otherPosition.height - position.y);
+
+            if (overlapX < overlapY) {
+                if (position.x < otherPosition.x) {
+                    position.x = otherPosition.x - position.width - ENEMY_COLLISION_BUFFER;
+                } else {
+                    position.x = otherPosition.x + otherPosition.width + ENEMY_COLLISION_BUFFER;
+                }
+            } else {
+                if (position.y < otherPosition.y) {
+                    position.y = otherPosition.y - position.height - ENEMY_COLLISION_BUFFER;
+                } else {
+                    position.y = otherPosition.y + otherPosition.height + ENEMY_COLLISION_BUFFER;
+                }
+            }
+
+            HitboxComponent hitbox = Mappers.hitbox.get(entity);
+            hitbox.sync(position);
+            otherHitbox.sync(otherPosition);
+            spatialHash.update(entity, hitbox.bounds);
+            spatialHash.update(other, otherHitbox.bounds);
+            return;
+        }
+    }
+
+    private void setProposedHitbox(Entity entity, float x, float y, float buffer) {
+        HitboxComponent hitbox = Mappers.hitbox.get(entity);
+        proposedHitbox.set(
+            x + hitbox.offsetX - buffer, y + hitbox.offsetY - buffer,
+            hitbox.bounds.width + buffer * 2, hitbox.bounds.height + buffer * 2
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+
+// Applies the shell hits recorded this tick: enemies lose health and start exploding at zero,
+// the player loses health and ends the game at zero.
+public class DamageSystem extends TimedIteratingSystem {
+    private final GameWorld world;
+    private final SoundBank soundBank;
+
+    public DamageSystem(GameWorld world, int priority) {
+        super(Family.all(HealthComponent.class, PositionComponent.class).get(), priority);
+        this.world = world;
+        this.soundBank = world.getSoundBank();
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float delta) {
+        HealthComponent health = Mappers.health.get(entity);
+        if (health.pendingHits == 0) return;
+
+        boolean player = Mappers.player.has(entity);
+        while (health.pendingHits > 0) {
+            health.pendingHits--;
+            if (player) {
+                onPlayerHit(entity, health);
+            } else {
+                onEnemyHit(entity, health);
+            }
+        }
+    }
+
+    private void onPlayerHit(Entity entity, HealthComponent health) {
+        if (world.isPlayerDestroyed()) return;
+
+        PositionComponent position = Mappers.position.get(entity);
+        soundBank.play(SoundBank.TANK_HIT, 9.0f);
+        health.current = Math.max(0, health.current - health.damagePerHit);
+        GameEvents.tankHit(true, position.x, position.y, health.current);
+        if (health.current == 0) {
+            GameEvents.tankKilled(true, position.x, position.y, world.getScore());
+            // The game reads this flag after the tick and shows the game over screen with the final score
+            world.onPlayerDestroyed();
+            world.getSpatialHash().remove(entity);
+        }
+    }
+
+    private void onEnemyHit(Entity entity, HealthComponent health) {
+        // No further damage once the tank is exploding; current is already zero then
+        if (health.current <= 0) return;
+
+        PositionComponent position = Mappers.position.get(entity);
+        health.current -= health.damagePerHit;
+        GameEvents.tankHit(false, position.x, position.y, Math.max(0, health.current));
+
+        // Play hit sound when taking damage
+        soundBank.play(SoundBank.TANK_HIT, 0.6f, position.x, position.y);
+
+        if (health.current <= 0) {
+            health.current = 0;
+            // Start explosion sequence
+            entity.add(getEngine().createComponent(ExplosionComponent.class));
+            VelocityComponent velocity = Mappers.velocity.get(entity);
+            if (velocity != null) velocity.setZero();
+
+            soundBank.play(SoundBank.EXPLOSION, 0.7f, position.x, position.y);
+            world.incrementScore();
+            GameEvents.tankKilled(false, position.x, position.y, world.getScore());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+
+// Level of detail for enemies. Tanks beyond SLEEP_RADIUS from the player go dormant and drop out of every
+// per-tick system; tanks that come back within WAKE_RADIUS rejoin the full simulation. The gap between the
+// two radii stops tanks on the border from flipping every pass.
+// Each tick visits only a slice of the enemies, so every tank is revisited about twice a second and the
+// cost is spread evenly over the ticks rather than landing on one.
+public class DormancySystem extends EntitySystem implements TimedSystem {
+    // Beyond half the visible area's diagonal at the game's zoom in windows up to 2:1 (about 1680), plus a tank's
+    // size and the camera's lag, so tanks wake before they come into view. Measured from the player rather than
+    // the camera so that which tanks sleep follows the simulation alone and a replay matches at any window size.
+    private static final float WAKE_RADIUS = 1800f;
+    private static final float SLEEP_RADIUS = 2200f;
+    private static final float UPDATE_INTERVAL = 0.5f;
+
+    private final GameWorld world;
+    private final SpatialHash spatialHash;
+    private ImmutableArray<Entity> enemies;
+    private float clock;
+    private int cursor;
+    private float slice; // Fraction of a tank carried over between ticks
+    private long lastUpdateNanos;
+
+    public DormancySystem(GameWorld world, int priority) {
+        super(priority);
+        this.world = world;
+        this.spatialHash = world.getSpatialHash();
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        enemies = engine.getEntitiesFor(Family.all(EnemyAiComponent.class, PositionComponent.class, HitboxComponent.class)
+            .exclude(ExplosionComponent.class).get());
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        enemies = null;
+    }
+
+    @Override
+    public void update(float delta) {
+        long start = System.nanoTime();
+        clock += delta;
+
+        int size = enemies.size();
+        slice += size * delta / UPDATE_INTERVAL;
+        int visits = Math.min((int) slice, size);
+        slice -= visits;
+
+        PositionComponent player = Mappers.position.get(world.getPlayerTank());
+        for (int i = 0; i < visits; i++) {
+            if (cursor >= size) {
+                cursor = 0;
+            }
+            visit(enemies.get(cursor++), player);
+        }
+
+        lastUpdateNanos = System.nanoTime() - start;
+    }
+
+    private void visit(Entity entity, PositionComponent player) {
+        PositionComponent position = Mappers.position.get(entity);
+        float distance2 = Vector2.dst2(position.x, position.y, player.x, player.y);
+
+        DormantComponent dormant = Mappers.dormant.get(entity);
+        if (dormant == null) {
+            if (distance2 > SLEEP_RADIUS * SLEEP_RADIUS) {
+                dormant = getEngine().createComponent(DormantComponent.class);
+                dormant.lastUpdateTime = clock;
+                entity.add(dormant);
+                Mappers.velocity.get(entity).setZero();
+            }
+        } else if (distance2 < WAKE_RADIUS * WAKE_RADIUS) {
+            entity.remove(DormantComponent.class);
+        } else {
+            wander(entity, position, clock - dormant.lastUpdateTime);
+            dormant.lastUpdateTime = clock;
+        }
+    }
+
+    // Coarse version of EnemyAiSystem's wander: one straight move covering all the time since the last visit
+    private void wander(Entity entity, PositionComponent position, float elapsed) {
+        EnemyAiComponent ai = Mappers.enemyAi.get(entity);
+        ai.wanderTimer += elapsed;
+        if (ai.wanderTimer >= ai.wanderInterval) {
+            float angle = ai.random.nextFloat() * 360f;
+            ai.wanderDirectionX = MathUtils.cosDeg(angle);
+            ai.wanderDirectionY = MathUtils.sinDeg(angle);
+            position.rotation = angle;
+            ai.wanderTimer = 0f;
+        }
+
+        position.x = MathUtils.clamp(position.x + ai.moveSpeed * ai.wanderDirectionX * elapsed, 0, GameWorld.WORLD_WIDTH - position.width);
+        position.y = MathUtils.clamp(position.y + ai.moveSpeed * ai.wanderDirectionY * elapsed, 0, GameWorld.WORLD_HEIGHT - position.height);
+        // Nothing on screen to interpolate, so the tank simply jumps
+        position.previousX = position.x;
+        position.previousY = position.y;
+
+        HitboxComponent hitbox = Mappers.hitbox.get(entity);
+        hitbox.sync(position);
+        spatialHash.update(entity, hitbox.bounds);
+    }
+
+    public void clear() {
+        clock = 0f;
+        cursor = 0;
+        slice = 0f;
+    }
+
+    @Override
+    public long getLastUpdateNanos() {
+        return lastUpdateNanos;
+    }
+}
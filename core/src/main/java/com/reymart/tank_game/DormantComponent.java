@@ -0,0 +1,15 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+// Marks an enemy far from the player. Dormant tanks skip AI, collision, movement and weapons;
+// DormancySystem moves them with a coarse wander a couple of times a second instead.
+public class DormantComponent implements Component, Pool.Poolable {
+    public float lastUpdateTime; // World clock reading when DormancySystem last moved this tank
+
+    @Override
+    public void reset() {
+        lastUpdateTime = 0f;
+    }
+}
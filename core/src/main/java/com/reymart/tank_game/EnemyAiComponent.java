@@ -0,0 +1,32 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Pool;
+
+// State of an enemy tank's behaviour: wandering, chasing the player or holding after a collision
+public class EnemyAiComponent implements Component, Pool.Poolable {
+    public static final float DEFAULT_WANDER_INTERVAL = 3f;
+
+    public float moveSpeed;
+    public boolean chasing; // Moving towards the player this tick, so the move has to be checked for collisions
+    public boolean canMove = true;
+    public float collisionCooldown;
+    public float wanderTimer;
+    public float wanderInterval = DEFAULT_WANDER_INTERVAL;
+    public float wanderDirectionX;
+    public float wanderDirectionY;
+    // Each tank draws its wander directions from its own generator, seeded when the tank is created
+    public final RandomXS128 random = new RandomXS128();
+
+    @Override
+    public void reset() {
+        moveSpeed = 0f;
+        chasing = false;
+        canMove = true;
+        collisionCooldown = 0f;
+        wanderTimer = 0f;
+        wanderInterval = DEFAULT_WANDER_INTERVAL;
+        wanderDirectionX = wanderDirectionY = 0f;
+    }
+}
@@ -0,0 +1,216 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Decides what every enemy does this tick: wander while the player is out of range,
+// drive towards the player while shooting, or stop and aim once close enough.
+// This is the decide phase: each tank only reads the player's position, snapshotted before the phase,
+// and writes only its own components, so large crowds are split into chunks and decided on the
+// common fork-join pool. Wandering draws from each tank's own generator, which keeps the outcome
+// identical however the chunks are scheduled. The serial apply phase is the systems that follow:
+// CollisionSystem and MovementSystem carry out the moves and WeaponSystem fires the shots and plays the sounds.
+public class EnemyAiSystem extends EntitySystem implements TimedSystem {
+    private static final float DETECTION_RANGE = 1000f;
+    private static final float STOP_DISTANCE = 500f;
+    private static final float TURRET_ROTATION_SPEED = 2f;
+
+    // Lower values rotate the hull more smoothly
+    private static final float BODY_ROTATION_SPEED = 0.03f;
+    private static final float WANDER_ROTATION_SPEED = 0.5f;
+
+    // Smaller chunks cost more to hand to the pool than they save
+    private static final int MIN_TANKS_PER_CHUNK = 64;
+
+    private final GameWorld world;
+    private final Family family;
+    private final DecideChunk[] chunks;
+    private ImmutableArray<Entity> tanks;
+    private boolean parallel = true;
+    private long lastUpdateNanos;
+
+    // Snapshot shared by every chunk for the current tick
+    private float delta;
+    private float targetX;
+    private float targetY;
+
+    public EnemyAiSystem(GameWorld world, int priority) {
+        super(priority);
+        this.world = world;
+        this.family = Family.all(EnemyAiComponent.class, PositionComponent.class, VelocityComponent.class, TurretComponent.class)
+            .exclude(ExplosionComponent.class, DormantComponent.class).get();
+        // One chunk per pool worker plus one for the updating thread, which works through a chunk itself.
+        // A single core gets a single chunk, so the phase never leaves the updating thread there.
+        int chunkCount = Math.min(Runtime.getRuntime().availableProcessors(), ForkJoinPool.getCommonPoolParallelism() + 1);
+        this.chunks = new DecideChunk[chunkCount];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = new DecideChunk();
+        }
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        tanks = engine.getEntitiesFor(family);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        tanks = null;
+    }
+
+    @Override
+    public void update(float delta) {
+        long start = System.nanoTime();
+
+        PositionComponent target = Mappers.position.get(world.getPlayerTank());
+        this.delta = delta;
+        this.targetX = target.x;
+        this.targetY = target.y;
+
+        int size = tanks.size();
+        int chunkCount = parallel ? Math.min(chunks.length, size / MIN_TANKS_PER_CHUNK) : 1;
+        if (chunkCount <= 1) {
+            decide(0, size);
+        } else {
+            int from = 0;
+            for (int i = 0; i < chunkCount; i++) {
+                int to = (int) ((long) size * (i + 1) / chunkCount);
+                chunks[i].reinitialize();
+                chunks[i].from = from;
+                chunks[i].to = to;
+                from = to;
+            }
+            for (int i = 1; i < chunkCount; i++) {
+                chunks[i].fork();
+            }
+            chunks[0].invoke();
+            for (int i = 1; i < chunkCount; i++) {
+                chunks[i].join();
+            }
+        }
+
+        lastUpdateNanos = System.nanoTime() - start;
+    }
+
+    private void decide(int from, int to) {
+        for (int i = from; i < to; i++) {
+            decide(tanks.get(i));
+        }
+    }
+
+    // Runs on pool threads: never read another tank's components here, only this entity's and the player snapshot
+    private void decide(Entity entity) {
+        EnemyAiComponent ai = Mappers.enemyAi.get(entity);
+        PositionComponent position = Mappers.position.get(entity);
+        VelocityComponent velocity = Mappers.velocity.get(entity);
+        TurretComponent turret = Mappers.turret.get(entity);
+
+        position.previousX = position.x;
+        position.previousY = position.y;
+        velocity.setZero();
+        ai.chasing = false;
+
+        float distanceToPlayer = Vector2.dst(position.x, position.y, targetX, targetY);
+
+        if (distanceToPlayer <= DETECTION_RANGE) {
+            if (distanceToPlayer > STOP_DISTANCE) {
+                // A tank held back by a collision waits in place until CollisionSystem releases it
+                if (ai.canMove) {
+                    moveTowardsPlayer(ai, position, velocity);
+
+                    // Shoot while moving towards the player
+                    if (turret.cooldown <= 0) {
+                        aimAndFire(position, turret);
+                    }
+                }
+            } else {
+                stopAndAimAtPlayer(position, turret, delta);
+            }
+        } else {
+            performWanderMovement(ai, position, velocity, delta);
+        }
+
+        TankSpriteComponent sprite = Mappers.tankSprite.get(entity);
+        if (sprite != null) {
+            sprite.moving = (ai.wanderDirectionX != 0 || ai.wanderDirectionY != 0) && ai.canMove;
+        }
+    }
+
+    private void moveTowardsPlayer(EnemyAiComponent ai, PositionComponent position, VelocityComponent velocity) {
+        float angleToPlayer = MathUtils.atan2(targetY - position.y, targetX - position.x) * MathUtils.radiansToDegrees;
+        position.rotation = MathUtils.lerpAngleDeg(position.rotation, angleToPlayer, BODY_ROTATION_SPEED);
+
+        float radians = position.rotation * MathUtils.degreesToRadians;
+        velocity.set(ai.moveSpeed * MathUtils.cos(radians), ai.moveSpeed * MathUtils.sin(radians));
+        ai.chasing = true;
+    }
+
+    private void aimAndFire(PositionComponent position, TurretComponent turret) {
+        float angleToPlayer = MathUtils.atan2(targetY - position.y, targetX - position.x) * MathUtils.radiansToDegrees;
+
+        // Adjust turret rotation towards the player while moving
+        turret.rotation = MathUtils.lerpAngleDeg(turret.rotation, angleToPlayer, TURRET_ROTATION_SPEED);
+        turret.fireRequested = true;
+    }
+
+    private void stopAndAimAtPlayer(PositionComponent position, TurretComponent turret, float delta) {
+        float angleToPlayer = MathUtils.atan2(targetY - position.y, targetX - position.x) * MathUtils.radiansToDegrees + 180f;
+        angleToPlayer = (angleToPlayer + 360f) % 360f;
+
+        position.rotation = MathUtils.lerpAngleDeg(position.rotation, angleToPlayer, BODY_ROTATION_SPEED);
+        turret.rotation = MathUtils.lerpAngleDeg(turret.rotation, angleToPlayer, TURRET_ROTATION_SPEED * delta);
+
+        if (turret.cooldown <= 0) {
+            turret.fireRequested = true;
+        }
+    }
+
+    private void performWanderMovement(EnemyAiComponent ai, PositionComponent position, VelocityComponent velocity, float delta) {
+        ai.wanderTimer += delta;
+        if (ai.wanderTimer >= ai.wanderInterval) {
+            updateWanderDirection(ai, position);
+            ai.wanderTimer = 0f;
+        }
+
+        velocity.set(ai.moveSpeed * ai.wanderDirectionX, ai.moveSpeed * ai.wanderDirectionY);
+    }
+
+    private void updateWanderDirection(EnemyAiComponent ai, PositionComponent position) {
+        float randomAngle = ai.random.nextFloat() * 360f;
+        ai.wanderDirectionX = MathUtils.cosDeg(randomAngle);
+        ai.wanderDirectionY = MathUtils.sinDeg(randomAngle);
+
+        position.rotation = MathUtils.lerpAngleDeg(position.rotation, randomAngle, WANDER_ROTATION_SPEED);
+    }
+
+    // Runs the decide phase on one thread only, for comparing against the parallel split
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    @Override
+    public long getLastUpdateNanos() {
+        return lastUpdateNanos;
+    }
+
+    // A slice of the enemy list decided on one pool thread; reused every tick
+    private final class DecideChunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        int from;
+        int to;
+
+        @Override
+        protected void compute() {
+            decide(from, to);
+        }
+    }
+}
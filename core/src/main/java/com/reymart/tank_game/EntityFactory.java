@@ -0,0 +1,127 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+// Assembles tanks from pooled components; shells live in ProjectileSystem's arrays instead
+public class EntityFactory {
+    private static final float TANK_SIZE = 64f;
+    private static final float TANK_HITBOX_INSET = 10f;
+
+    private final GameWorld world;
+    private final PooledEngine engine;
+    private final Animation<TextureRegion> tankMoving;
+    private final Animation<TextureRegion> tankIdle;
+    private final Animation<TextureRegion> tankTurret;
+    private final Animation<TextureRegion> enemyTankMoving;
+    private final Animation<TextureRegion> enemyTankIdle;
+    private final Animation<TextureRegion> enemyTankTurret;
+    private final Animation<TextureRegion> explosion;
+
+    public EntityFactory(GameWorld world, PooledEngine engine) {
+        this.world = world;
+        this.engine = engine;
+        Assets assets = world.getAssets();
+        this.tankMoving = assets.getAnimation(Assets.TANK_MOVING);
+        this.tankIdle = assets.getAnimation(Assets.TANK_IDLE);
+        this.tankTurret = assets.getAnimation(Assets.TANK_TURRET);
+        this.enemyTankMoving = assets.getAnimation(Assets.ENEMY_TANK_MOVING);
+        this.enemyTankIdle = assets.getAnimation(Assets.ENEMY_TANK_IDLE);
+        this.enemyTankTurret = assets.getAnimation(Assets.ENEMY_TANK_TURRET);
+        this.explosion = assets.getAnimation(Assets.EXPLOSION);
+    }
+
+    public Entity createPlayerTank(float x, float y) {
+        Entity entity = createTank(x, y);
+
+        PlayerComponent player = engine.createComponent(PlayerComponent.class);
+        player.moveSpeed = 300f;
+        player.rotationSpeed = 180f;
+        entity.add(player);
+
+        HealthComponent health = engine.createComponent(HealthComponent.class);
+        health.current = health.max = 150;
+        health.damagePerHit = 20;
+        entity.add(health);
+
+        TurretComponent turret = engine.createComponent(TurretComponent.class);
+        turret.interval = 0.1f;
+        turret.muzzleLength = 15f;
+        turret.range = 1500f;
+        entity.add(turret);
+
+        TankSpriteComponent sprite = engine.createComponent(TankSpriteComponent.class);
+        sprite.movingAnimation = tankMoving;
+        sprite.idleAnimation = tankIdle;
+        sprite.turretAnimation = tankTurret;
+        sprite.bodyScaleX = 1.8f;
+        sprite.bodyScaleY = 1.4f;
+        sprite.turretScaleX = 1.8f;
+        sprite.turretScaleY = 1f;
+        entity.add(sprite);
+
+        engine.addEntity(entity);
+        return entity;
+    }
+
+    // Enemies share their animations with every other enemy; only the animation time in the sprite component is new.
+    public Entity createEnemyTank(float x, float y) {
+        Entity entity = createTank(x, y);
+
+        EnemyAiComponent ai = engine.createComponent(EnemyAiComponent.class);
+        ai.moveSpeed = 150f;
+        ai.random.setSeed(world.getRandom().nextLong());
+        entity.add(ai);
+
+        HealthComponent health = engine.createComponent(HealthComponent.class);
+        health.current = health.max = 100;
+        health.damagePerHit = 30;
+        entity.add(health);
+        entity.add(engine.createComponent(HealthBarComponent.class));
+
+        TurretComponent turret = engine.createComponent(TurretComponent.class);
+        turret.interval = 2f;
+        // The enemy turret sprite points a quarter turn away from its rotation
+        turret.muzzleAngleOffset = -90f;
+        turret.range = 1500f;
+        entity.add(turret);
+
+        TankSpriteComponent sprite = engine.createComponent(TankSpriteComponent.class);
+        sprite.movingAnimation = enemyTankMoving;
+        sprite.idleAnimation = enemyTankIdle;
+        sprite.turretAnimation = enemyTankTurret;
+        sprite.explosionAnimation = explosion;
+        sprite.bodyScaleX = 1.6f;
+        sprite.bodyScaleY = 1.2f;
+        sprite.turretScaleX = 1.4f;
+        sprite.turretScaleY = 1.1f;
+        entity.add(sprite);
+
+        engine.addEntity(entity);
+        return entity;
+    }
+
+    // Position, velocity and a hitbox inset from the hull, registered in the collision grid
+    private Entity createTank(float x, float y) {
+        Entity entity = engine.createEntity();
+
+        PositionComponent position = engine.createComponent(PositionComponent.class);
+        position.set(x, y);
+        position.width = TANK_SIZE;
+        position.height = TANK_SIZE;
+        entity.add(position);
+        entity.add(engine.createComponent(VelocityComponent.class));
+
+        HitboxComponent hitbox = engine.createComponent(HitboxComponent.class);
+        hitbox.offsetX = TANK_HITBOX_INSET;
+        hitbox.offsetY = TANK_HITBOX_INSET;
+        hitbox.bounds.setSize(TANK_SIZE - TANK_HITBOX_INSET * 2, TANK_SIZE - TANK_HITBOX_INSET * 2);
+        hitbox.sync(position);
+        entity.add(hitbox);
+
+        world.getSpatialHash().update(entity, hitbox.bounds);
+        return entity;
+    }
+}
@@ -0,0 +1,147 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+// Generation-checked handles for references that may outlive an entity, such as the tank that fired a shell.
+// PooledEngine recycles entity objects, so a plain Entity reference can end up pointing at a different tank;
+// a handle to a removed entity stays invalid.
+//
+// A handle packs the entity's slot in the low 32 bits and the slot's generation in the high 32 bits. Removing an
+// entity bumps its slot's generation and puts the slot on a free list, so adding, removing and resolving a handle
+// are all constant time. The slot rides in Entity.flags, which nothing else in the game uses.
+//
+// Groups keep the entities of one family packed in a dense array for iteration and counting, indexed by slot.
+// Removing a member moves the last one into its place, so that is constant time too, and the order is not stable.
+// The registry has to be added to the engine before any group so that entities have a slot when a group sees them.
+public class EntityRegistry implements EntityListener {
+    // Never returned for a registered entity
+    public static final long NONE = 0L;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Entity[] entities = new Entity[INITIAL_CAPACITY];
+    private int[] generations = new int[INITIAL_CAPACITY];
+    private int slotCount;
+    private final IntArray freeSlots = new IntArray(false, INITIAL_CAPACITY);
+    private final Array<Group> groups = new Array<>(false, 4);
+
+    // Tracks the members of a family from now on, including those already in the engine
+    public Group createGroup(Engine engine, Family family) {
+        Group group = new Group();
+        groups.add(group);
+        engine.addEntityListener(family, group);
+        for (Entity entity : engine.getEntitiesFor(family)) {
+            group.entityAdded(entity);
+        }
+        return group;
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        int slot = freeSlots.size > 0 ? freeSlots.pop() : newSlot();
+        entities[slot] = entity;
+        entity.flags = slot + 1;
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        int slot = entity.flags - 1;
+        if (slot < 0) return;
+
+        // Groups hear about the removal after this listener, once the slot is gone, so they are emptied here
+        for (int i = 0; i < groups.size; i++) {
+            groups.get(i).remove(slot);
+        }
+        entities[slot] = null;
+        generations[slot]++;
+        freeSlots.add(slot);
+        entity.flags = 0;
+    }
+
+    private int newSlot() {
+        if (slotCount == generations.length) {
+            entities = Arrays.copyOf(entities, slotCount * 2);
+            generations = Arrays.copyOf(generations, slotCount * 2);
+        }
+        // Generations start at 1 so no handle equals NONE
+        generations[slotCount] = 1;
+        return slotCount++;
+    }
+
+    // NONE for null and for entities that are not in the world
+    public long handleOf(Entity entity) {
+        if (entity == null) return NONE;
+        int slot = entity.flags - 1;
+        if (slot < 0) return NONE;
+        return (long) generations[slot] << 32 | slot;
+    }
+
+    // The entity the handle was taken from, or null once it has left the world
+    public Entity get(long handle) {
+        int slot = (int) handle;
+        if (handle == NONE || slot < 0 || slot >= slotCount || generations[slot] != (int) (handle >>> 32)) return null;
+        return entities[slot];
+    }
+
+    public boolean isAlive(long handle) {
+        return get(handle) != null;
+    }
+
+    // The members of one family, packed at the front of an array
+    public static final class Group implements EntityListener {
+        private Entity[] members = new Entity[INITIAL_CAPACITY];
+        private int size;
+        // Index in members plus one for the entity in each slot, 0 when that entity is not a member
+        private int[] positions = new int[INITIAL_CAPACITY];
+
+        private Group() {
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public Entity get(int index) {
+            return members[index];
+        }
+
+        @Override
+        public void entityAdded(Entity entity) {
+            int slot = entity.flags - 1;
+            if (slot < 0) return;
+
+            if (slot >= positions.length) {
+                positions = Arrays.copyOf(positions, Math.max(slot + 1, positions.length * 2));
+            }
+            if (positions[slot] != 0) return;
+            if (size == members.length) {
+                members = Arrays.copyOf(members, size * 2);
+            }
+            members[size] = entity;
+            positions[slot] = ++size;
+        }
+
+        // Only reached for an entity that leaves the family while staying in the world
+        @Override
+        public void entityRemoved(Entity entity) {
+            remove(entity.flags - 1);
+        }
+
+        private void remove(int slot) {
+            if (slot < 0 || slot >= positions.length || positions[slot] == 0) return;
+
+            int index = positions[slot] - 1;
+            Entity last = members[--size];
+            members[index] = last;
+            positions[last.flags - 1] = index + 1;
+            members[size] = null;
+            positions[slot] = 0;
+        }
+    }
+}
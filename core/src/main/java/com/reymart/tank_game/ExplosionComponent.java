@@ -0,0 +1,14 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+// Added to a destroyed enemy; the tank plays its explosion and is removed once the timer runs out
+public class ExplosionComponent implements Component, Pool.Poolable {
+    public float timer;
+
+    @Override
+    public void reset() {
+        timer = 0f;
+    }
+}
@@ -0,0 +1,26 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+
+// Removes destroyed tanks, together with their health bars, once their explosion has played
+public class ExplosionSystem extends TimedIteratingSystem {
+    private static final float EXPLOSION_DURATION = 1f;
+
+    private final SpatialHash spatialHash;
+
+    public ExplosionSystem(GameWorld world, int priority) {
+        super(Family.all(ExplosionComponent.class).get(), priority);
+        this.spatialHash = world.getSpatialHash();
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float delta) {
+        ExplosionComponent explosion = Mappers.explosion.get(entity);
+        explosion.timer += delta;
+        if (explosion.timer >= EXPLOSION_DURATION) {
+            spatialHash.remove(entity);
+            getEngine().removeEntity(entity);
+        }
+    }
+}
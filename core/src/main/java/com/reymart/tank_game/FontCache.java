@@ -0,0 +1,201 @@
+package com.reymart.tank_game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.Locale;
+
+// Bitmap fonts rasterised from a TrueType file once and kept in local storage as a .fnt file plus page images.
+// The first launch pays for FreeType; every later launch loads the cached pages like any other bitmap font.
+// The cache key covers the font file's name, length and modification time and every parameter used here,
+// so replacing the font or changing a style bakes a new font.
+//
+// prepare() does the file and CPU work and may run on any thread; Prepared.upload() makes the textures
+// and has to run on the render thread.
+public final class FontCache {
+    private static final String CACHE_DIRECTORY = "fontcache/v1/";
+    private static final int PAGE_SIZE = 512;
+
+    private FontCache() {}
+
+    // Prepares and uploads in one go on the render thread. The caller owns the returned font and disposes it.
+    public static BitmapFont load(String fontPath, FreeTypeFontGenerator.FreeTypeFontParameter parameter) {
+        return prepare(fontPath, parameter).upload();
+    }
+
+    // Reads the cached font, baking it first if it is missing, and decodes its pages
+    public static Prepared prepare(String fontPath, FreeTypeFontGenerator.FreeTypeFontParameter parameter) {
+        FileHandle fontFile = Gdx.files.internal(fontPath);
+        String name = fontFile.nameWithoutExtension() + "-" + Long.toHexString(fontFile.length())
+            + "-" + Long.toHexString(fontFile.lastModified()) + "-" + parameter.size + "-" + parameter.color
+            + "-" + parameter.borderWidth + "-" + parameter.borderColor + "-" + Integer.toHexString(parameter.characters.hashCode());
+        FileHandle cached = Gdx.files.local(CACHE_DIRECTORY + name + ".fnt");
+        if (cached.exists()) {
+            try {
+                return read(cached);
+            } catch (GdxRuntimeException e) {
+                Gdx.app.error("FontCache", "Discarding unreadable " + cached.path(), e);
+            }
+        }
+
+        GameEvents.AssetLoad event = new GameEvents.AssetLoad();
+        event.begin();
+        // The packer is handed over so the generator only rasterises into pixmaps and never touches GL
+        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(fontFile);
+        PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 1, false);
+        FreeTypeFontGenerator.FreeTypeFontParameter packed = copy(parameter);
+        packed.packer = packer;
+        try {
+            BitmapFont.BitmapFontData data = generator.generateData(packed);
+            event.path = fontPath + " size " + parameter.size;
+            event.commit();
+            try {
+                write(cached, name, data, packer.getPages());
+                packer.dispose();
+                return read(cached);
+            } catch (GdxRuntimeException e) {
+                // Local storage may be read-only; use the pages just generated and bake again next launch
+                Gdx.app.error("FontCache", "Could not cache " + name, e);
+                Pixmap[] pages = new Pixmap[packer.getPages().size];
+                for (int i = 0; i < pages.length; i++) {
+                    pages[i] = packer.getPages().get(i).getPixmap();
+                }
+                return new Prepared(data, pages, packer);
+            }
+        } finally {
+            generator.dispose();
+        }
+    }
+
+    private static Prepared read(FileHandle fontFile) {
+        BitmapFont.BitmapFontData data = new BitmapFont.BitmapFontData(fontFile, false);
+        Pixmap[] pages = new Pixmap[data.getImagePaths().length];
+        for (int i = 0; i < pages.length; i++) {
+            pages[i] = new Pixmap(Gdx.files.local(data.getImagePath(i)));
+        }
+        return new Prepared(data, pages, null);
+    }
+
+    private static FreeTypeFontGenerator.FreeTypeFontParameter copy(FreeTypeFontGenerator.FreeTypeFontParameter parameter) {
+        FreeTypeFontGenerator.FreeTypeFontParameter copy = new FreeTypeFontGenerator.FreeTypeFontParameter();
+        copy.size = parameter.size;
+        copy.color = parameter.color;
+        copy.borderWidth = parameter.borderWidth;
+        copy.borderColor = parameter.borderColor;
+        copy.characters = parameter.characters;
+        return copy;
+    }
+
+    // Writes the AngelCode text format BitmapFont reads, with a metrics line so the loaded font matches exactly
+    private static void write(FileHandle fontFile, String name, BitmapFont.BitmapFontData data, Array<PixmapPacker.Page> pages) {
+        StringBuilder text = new StringBuilder(8192);
+        text.append("info face=\"").append(name).append("\" size=0 bold=0 italic=0 charset=\"\" unicode=1 stretchH=100 smooth=1 aa=1")
+            .append(" padding=").append((int) data.padTop).append(',').append((int) data.padRight).append(',')
+            .append((int) data.padBottom).append(',').append((int) data.padLeft).append(" spacing=0,0\n");
+        // Only the base matters to the loader before the metrics line overrides it
+        int base = Math.round(data.capHeight + (data.flipped ? -data.ascent : data.ascent));
+        text.append("common lineHeight=").append(Math.round(data.lineHeight)).append(" base=").append(base)
+            .append(" scaleW=").append(PAGE_SIZE).append(" scaleH=").append(PAGE_SIZE)
+            .append(" pages=").append(pages.size).append(" packed=0\n");
+        for (int i = 0; i < pages.size; i++) {
+            String pageName = name + "_" + i + ".png";
+            PixmapIO.writePNG(fontFile.sibling(pageName), pages.get(i).getPixmap());
+            text.append("page id=").append(i).append(" file=\"").append(pageName).append("\"\n");
+        }
+
+        Array<BitmapFont.Glyph> glyphs = new Array<>();
+        for (BitmapFont.Glyph[] page : data.glyphs) {
+            if (page == null) continue;
+            for (BitmapFont.Glyph glyph : page) {
+                if (glyph != null) glyphs.add(glyph);
+            }
+        }
+        if (data.missingGlyph != null && !glyphs.contains(data.missingGlyph, true)) {
+            glyphs.add(data.missingGlyph);
+        }
+        text.append("chars count=").append(glyphs.size).append('\n');
+        for (int i = 0; i < glyphs.size; i++) {
+            BitmapFont.Glyph glyph = glyphs.get(i);
+            text.append("char id=").append(glyph.id)
+                .append(" x=").append(glyph.srcX).append(" y=").append(glyph.srcY)
+                .append(" width=").append(glyph.width).append(" height=").append(glyph.height)
+                .append(" xoffset=").append(glyph.xoffset)
+                // BitmapFont stores offsets from the baseline; the file measures down from the line top
+                .append(" yoffset=").append(-(glyph.yoffset + glyph.height))
+                .append(" xadvance=").append(glyph.xadvance)
+                .append(" page=").append(glyph.page).append(" chnl=0\n");
+        }
+
+        StringBuilder kernings = new StringBuilder();
+        int kerningCount = 0;
+        for (int i = 0; i < glyphs.size; i++) {
+            BitmapFont.Glyph first = glyphs.get(i);
+            for (int j = 0; j < glyphs.size; j++) {
+                BitmapFont.Glyph second = glyphs.get(j);
+                int amount = first.getKerning((char) second.id);
+                if (amount == 0) continue;
+                kernings.append("kerning first=").append(first.id).append(" second=").append(second.id)
+                    .append(" amount=").append(amount).append('\n');
+                kerningCount++;
+            }
+        }
+        // The loader only reads the metrics line after a kernings block, so the header is written even when empty
+        text.append("kernings count=").append(kerningCount).append('\n').append(kernings);
+        text.append(String.format(Locale.ROOT, "metrics ascent=%s descent=%s down=%s capHeight=%s lineHeight=%s spaceXAdvance=%s xHeight=%s\n",
+            data.ascent, data.descent, data.down, data.capHeight, data.lineHeight, data.spaceXadvance, data.xHeight));
+
+        fontFile.writeString(text.toString(), false, "UTF-8");
+    }
+
+    // Glyph metrics and decoded page images of a font whose textures have not been created yet
+    public static final class Prepared {
+        private final BitmapFont.BitmapFontData data;
+        private final Pixmap[] pages;
+        private final PixmapPacker packer; // Owns the pages when they came straight from the generator
+
+        Prepared(BitmapFont.BitmapFontData data, Pixmap[] pages, PixmapPacker packer) {
+            this.data = data;
+            this.pages = pages;
+            this.packer = packer;
+            if (packer != null) {
+                ResourceTracker.track(packer, this, (long) PAGE_SIZE * PAGE_SIZE * 4 * pages.length);
+            } else {
+                for (Pixmap page : pages) {
+                    ResourceTracker.track(page, this);
+                }
+            }
+        }
+
+        // Creates the page textures and the font that owns them; render thread only
+        public BitmapFont upload() {
+            Array<TextureRegion> regions = new Array<>(pages.length);
+            for (Pixmap page : pages) {
+                regions.add(new TextureRegion(new Texture(page)));
+            }
+            discard();
+            BitmapFont font = new BitmapFont(data, regions, true);
+            font.setOwnsTexture(true);
+            return font;
+        }
+
+        // Frees the decoded pages without creating a font
+        public void discard() {
+            if (packer != null) {
+                ResourceTracker.dispose(packer);
+            } else {
+                for (Pixmap page : pages) {
+                    ResourceTracker.dispose(page);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.reymart.tank_game;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+// Counts the bytes the render thread allocates between beginFrame() and endFrame().
+// Relies on the HotSpot extension of ThreadMXBean; on JVMs without it the tracker stays disabled.
+public class FrameAllocationTracker {
+    private static final int CALIBRATION_SAMPLES = 16;
+
+    private final com.sun.management.ThreadMXBean threadBean;
+    private long threadId;
+    private long probeOverhead;
+    private long frameStartBytes;
+    private long lastFrameBytes;
+    private long frameCount;
+
+    public FrameAllocationTracker() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            threadBean = (com.sun.management.ThreadMXBean) bean;
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            threadBean = null;
+        }
+    }
+
+    public boolean isSupported() {
+        return threadBean != null;
+    }
+
+    // Binds the tracker to the calling thread and measures what the probe itself allocates,
+    // so that a frame which allocates nothing reports zero.
+    public void attachToCurrentThread() {
+        if (threadBean == null) return;
+        threadId = Thread.currentThread().getId();
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long start = threadBean.getThreadAllocatedBytes(threadId);
+            long end = threadBean.getThreadAllocatedBytes(threadId);
+            overhead = Math.min(overhead, end - start);
+        }
+        probeOverhead = overhead;
+    }
+
+    public void beginFrame() {
+        if (threadBean == null) return;
+        frameStartBytes = threadBean.getThreadAllocatedBytes(threadId);
+    }
+
+    public void endFrame() {
+        if (threadBean == null) return;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - frameStartBytes - probeOverhead;
+        lastFrameBytes = Math.max(0, allocated);
+        frameCount++;
+    }
+
+    public long getLastFrameBytes() {
+        return lastFrameBytes;
+    }
+
+    public long getFrameCount() {
+        return frameCount;
+    }
+}
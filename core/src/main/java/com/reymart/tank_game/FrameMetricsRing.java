@@ -0,0 +1,108 @@
+package com.reymart.tank_game;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import sun.misc.Unsafe;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+// Fixed-size ring of per-frame metrics in a memory-mapped file, so another process can tail the numbers
+// while the game runs without the game doing any I/O of its own. Writing a frame is a handful of stores.
+//
+// Layout, little endian:
+//   header  int magic 'TGFM', int version, int slot bytes, int slot count, long frames written, 8 bytes reserved
+//   slots   slot count * SLOT_FIELDS longs: frame, nano time, frame nanos, simulation ticks, enemies, shells,
+//           sprites drawn, heap bytes used
+// Frame n lives in slot n % slot count. A slot's frame field is written last, and the frames written
+// counter after it, so a reader that sees the counter move can trust the slots behind it; a reader that finds
+// a slot's frame field changed under it was overtaken by the writer and should skip that slot.
+// Buffer puts are plain stores that the JIT and the CPU may reorder, so store fences keep that order; a reader
+// in another process needs load fences of its own between reading the counter, a slot and its frame field again.
+public class FrameMetricsRing implements Disposable {
+    public static final int MAGIC = 0x4D464754; // "TGFM" read as little endian bytes
+    public static final int VERSION = 1;
+    public static final int SLOT_FIELDS = 8;
+    public static final int SLOT_BYTES = SLOT_FIELDS * Long.BYTES;
+    public static final int HEADER_BYTES = 32;
+    private static final int FRAMES_WRITTEN_OFFSET = 16;
+    // Java 8 has no public fence API
+    private static final Unsafe UNSAFE = loadUnsafe();
+
+    private final int capacity;
+    private final RandomAccessFile file;
+    private final MappedByteBuffer buffer;
+    private long frames;
+
+    public FrameMetricsRing(File path, int capacity) {
+        this.capacity = capacity;
+        try {
+            file = new RandomAccessFile(path, "rw");
+            long size = HEADER_BYTES + (long) capacity * SLOT_BYTES;
+            file.setLength(size);
+            buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not map frame metrics file: " + path, e);
+        }
+
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, SLOT_BYTES);
+        buffer.putInt(12, capacity);
+        buffer.putLong(FRAMES_WRITTEN_OFFSET, 0);
+    }
+
+    public void write(long nanoTime, long frameNanos, int ticks, int enemies, int shells, int drawn, long heapUsed) {
+        int slot = HEADER_BYTES + (int) (frames % capacity) * SLOT_BYTES;
+        // Invalidate the slot first so a reader never pairs the old frame number with new numbers
+        buffer.putLong(slot, -1);
+        UNSAFE.storeFence();
+        buffer.putLong(slot + 8, nanoTime);
+        buffer.putLong(slot + 16, frameNanos);
+        buffer.putLong(slot + 24, ticks);
+        buffer.putLong(slot + 32, enemies);
+        buffer.putLong(slot + 40, shells);
+        buffer.putLong(slot + 48, drawn);
+        buffer.putLong(slot + 56, heapUsed);
+        UNSAFE.storeFence();
+        buffer.putLong(slot, frames);
+        frames++;
+        UNSAFE.storeFence();
+        buffer.putLong(FRAMES_WRITTEN_OFFSET, frames);
+    }
+
+    private static Unsafe loadUnsafe() {
+        try {
+            Field field = Unsafe.class.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return (Unsafe) field.get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new GdxRuntimeException("Store fences are unavailable on this JVM", e);
+        }
+    }
+
+    public long getMappedBytes() {
+        return buffer.capacity();
+    }
+
+    public long getFramesWritten() {
+        return frames;
+    }
+
+    @Override
+    public void dispose() {
+        // The mapping itself stays valid until it is garbage collected; closing only releases the file handle
+        try {
+            file.close();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not close frame metrics file", e);
+        }
+    }
+}
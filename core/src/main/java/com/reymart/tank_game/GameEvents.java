@@ -0,0 +1,191 @@
+package com.reymart.tank_game;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+// Java Flight Recorder events for gameplay and engine telemetry. They cost a flag check while no recording
+// is running, so they can sit on the simulation path where console logging used to be.
+// Record with -XX:StartFlightRecording=filename=tank.jfr and open the file in JDK Mission Control,
+// or print one kind with: jfr print --events tankgame.TankHit tank.jfr
+//
+// Each helper checks its event type first, so nothing is allocated unless that event is being recorded.
+public final class GameEvents {
+    private static final EventType ENEMY_SPAWNED = EventType.getEventType(EnemySpawned.class);
+    private static final EventType SHELL_FIRED = EventType.getEventType(ShellFired.class);
+    private static final EventType TANK_HIT = EventType.getEventType(TankHit.class);
+    private static final EventType TANK_KILLED = EventType.getEventType(TankKilled.class);
+    private static final EventType LONG_FRAME = EventType.getEventType(LongFrame.class);
+
+    private GameEvents() {}
+
+    public static void enemySpawned(float x, float y, int enemyCount) {
+        if (!ENEMY_SPAWNED.isEnabled()) return;
+        EnemySpawned event = new EnemySpawned();
+        event.x = x;
+        event.y = y;
+        event.enemyCount = enemyCount;
+        event.commit();
+    }
+
+    public static void shellFired(boolean player, float x, float y, float rotation) {
+        if (!SHELL_FIRED.isEnabled()) return;
+        ShellFired event = new ShellFired();
+        event.player = player;
+        event.x = x;
+        event.y = y;
+        event.rotation = rotation;
+        event.commit();
+    }
+
+    public static void tankHit(boolean player, float x, float y, int healthLeft) {
+        if (!TANK_HIT.isEnabled()) return;
+        TankHit event = new TankHit();
+        event.player = player;
+        event.x = x;
+        event.y = y;
+        event.healthLeft = healthLeft;
+        event.commit();
+    }
+
+    public static void tankKilled(boolean player, float x, float y, int score) {
+        if (!TANK_KILLED.isEnabled()) return;
+        TankKilled event = new TankKilled();
+        event.player = player;
+        event.x = x;
+        event.y = y;
+        event.score = score;
+        event.commit();
+    }
+
+    // Starts timing a frame; null when long frames are not being recorded
+    public static LongFrame beginFrame() {
+        if (!LONG_FRAME.isEnabled()) return null;
+        LongFrame event = new LongFrame();
+        event.begin();
+        return event;
+    }
+
+    public static void endFrame(LongFrame event, long frame, int ticks, int enemies, int shells) {
+        if (event == null) return;
+        event.end();
+        if (!event.shouldCommit()) return;
+        event.frame = frame;
+        event.ticks = ticks;
+        event.enemies = enemies;
+        event.shells = shells;
+        event.commit();
+    }
+
+    @Name("tankgame.EnemySpawned")
+    @Label("Enemy Spawned")
+    @Category("Tank Game")
+    @StackTrace(false)
+    public static final class EnemySpawned extends Event {
+        @Label("X")
+        float x;
+        @Label("Y")
+        float y;
+        @Label("Enemy Count")
+        @Description("Enemies in the world including this one")
+        int enemyCount;
+    }
+
+    @Name("tankgame.ShellFired")
+    @Label("Shell Fired")
+    @Category("Tank Game")
+    @StackTrace(false)
+    public static final class ShellFired extends Event {
+        @Label("Fired By Player")
+        boolean player;
+        @Label("X")
+        float x;
+        @Label("Y")
+        float y;
+        @Label("Rotation")
+        float rotation;
+    }
+
+    @Name("tankgame.TankHit")
+    @Label("Tank Hit")
+    @Category("Tank Game")
+    @StackTrace(false)
+    public static final class TankHit extends Event {
+        @Label("Player Tank")
+        boolean player;
+        @Label("X")
+        float x;
+        @Label("Y")
+        float y;
+        @Label("Health Left")
+        int healthLeft;
+    }
+
+    @Name("tankgame.TankKilled")
+    @Label("Tank Killed")
+    @Category("Tank Game")
+    @Description("An enemy destroyed by the player, or the player destroyed, which ends the game")
+    @StackTrace(false)
+    public static final class TankKilled extends Event {
+        @Label("Player Tank")
+        boolean player;
+        @Label("X")
+        float x;
+        @Label("Y")
+        float y;
+        @Label("Score")
+        int score;
+    }
+
+    // Timed around the load; begin() before it starts and commit() once it is done
+    @Name("tankgame.AssetLoad")
+    @Label("Asset Load")
+    @Category({"Tank Game", "Engine"})
+    @StackTrace(false)
+    public static final class AssetLoad extends Event {
+        @Label("Path")
+        String path;
+    }
+
+    // From TankGame.create() to the first frame that simulates the world and takes input
+    @Name("tankgame.Startup")
+    @Label("Startup")
+    @Category({"Tank Game", "Engine"})
+    @StackTrace(false)
+    public static final class Startup extends Event {
+        @Label("Since JVM Start")
+        @Timespan(Timespan.MILLISECONDS)
+        long sinceJvmStartMillis;
+    }
+
+    // TankGame.restartGame() resetting the world in place
+    @Name("tankgame.Restart")
+    @Label("Restart")
+    @Category({"Tank Game", "Engine"})
+    @StackTrace(false)
+    public static final class Restart extends Event {
+    }
+
+    // Every frame is timed, but only frames longer than two 60 Hz budgets are written by default
+    @Name("tankgame.LongFrame")
+    @Label("Long Frame")
+    @Category({"Tank Game", "Engine"})
+    @Threshold("33 ms")
+    @StackTrace(false)
+    public static final class LongFrame extends Event {
+        @Label("Frame")
+        long frame;
+        @Label("Simulation Ticks")
+        int ticks;
+        @Label("Enemies")
+        int enemies;
+        @Label("Shells")
+        int shells;
+    }
+}
@@ -3,39 +3,34 @@ package com.reymart.tank_game;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 
 public class GameOverScreen implements Dispose {
-    private BitmapFont font;
+    // All three lines, laid out once per game over relative to the camera centre
+    private BitmapFontCache textCache;
     private SpriteBatch batch;
     private boolean isActive = false;
     private OrthographicCamera camera;
     private int finalScore;
 
-    public GameOverScreen(SpriteBatch batch, OrthographicCamera camera) {
+    // The font belongs to UiFonts
+    public GameOverScreen(SpriteBatch batch, OrthographicCamera camera, BitmapFont font) {
         this.batch = batch;
         this.camera = camera;
-        initializeFont();
-    }
-
-    private void initializeFont() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("fonts/arial.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 48;
-        parameter.color = Color.RED;
-        parameter.borderWidth = 3;
-        parameter.borderColor = Color.BLACK;
-        font = generator.generateFont(parameter);
-        generator.dispose();
+        this.textCache = font.newFontCache();
     }
 
     public void show(int score) {
         this.isActive = true;
         this.finalScore = score;
+
+        // Offsets from the camera centre; adjust these values to center the text
+        textCache.setText("GAME OVER!!", -150, 50);
+        textCache.addText("Score: " + score, -100, 0);
+        textCache.addText("Press ENTER to restart!!", -200, -50);
     }
 
     public void hide() {
@@ -49,23 +44,10 @@ public class GameOverScreen implements Dispose {
     public void render() {
         if (!isActive) return;
 
-        float cameraX = camera.position.x;
-        float cameraY = camera.position.y;
-        float offsetX = camera.viewportWidth * camera.zoom / 2;
-        float offsetY = camera.viewportHeight * camera.zoom / 2;
-
         // Position text relative to camera center
-        float gameOverTextX = cameraX - 150; // Adjust these values to center the text
-        float gameOverTextY = cameraY + 50;
-        float scoreTextX = cameraX - 100;
-        float scoreTextY = cameraY;
-        float restartTextX = cameraX - 200;
-        float restartTextY = cameraY - 50;
-
+        textCache.setPosition(camera.position.x, camera.position.y);
         batch.begin();
-        font.draw(batch, "GAME OVER!!", gameOverTextX, gameOverTextY);
-        font.draw(batch, "Score: " + finalScore, scoreTextX, scoreTextY);
-        font.draw(batch, "Press ENTER to restart!!", restartTextX, restartTextY);
+        textCache.draw(batch);
         batch.end();
 
         if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER)) {
@@ -75,6 +57,6 @@ public class GameOverScreen implements Dispose {
 
     @Override
     public void dispose() {
-        if (font != null) font.dispose();
+        textCache.clear();
     }
 }
@@ -0,0 +1,319 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.RandomXS128;
+
+// Everything the simulation needs, advanced one fixed tick at a time by step().
+// Tanks are Ashley entities and shells live in ProjectileSystem; each tick the engine runs the systems below in priority order.
+// Enemies far from the player are dormant and only get a coarse update from DormancySystem.
+// Rendering reads positions between the last two ticks through getInterpolationAlpha().
+public class GameWorld {
+    // Side of the square world; run with -Dtankgame.worldSize=50000 for a larger map
+    public static final float WORLD_SIZE = Integer.getInteger("tankgame.worldSize", 5000);
+    public static final float WORLD_WIDTH = WORLD_SIZE;
+    public static final float WORLD_HEIGHT = WORLD_SIZE;
+
+    private static final float PLAYER_START_X = 750f;
+    private static final float PLAYER_START_Y = 450f;
+
+    private static final float COLLISION_CELL_SIZE = 256f;
+    private static final int INITIAL_POOL_SIZE = 64;
+    private static final int MAX_POOL_SIZE = 1024;
+
+    private static final float SPAWN_INTERVAL = 3f;
+    // Half the side of the square around the player that new enemies never appear in; it covers the view at the
+    // game's zoom in any common window shape. Tied to the player rather than the camera so spawning follows the
+    // simulation alone and a replay spawns the same tanks at any window size or frame rate.
+    private static final float SPAWN_CLEARANCE = 1500f;
+    // Random spots tried before giving up on the clear square, which can cover all of a small world
+    private static final int SPAWN_ATTEMPTS = 16;
+    private static final int DEFAULT_MAX_ENEMY_TANKS = 30;
+
+    // System priorities, lowest runs first
+    private static final int PLAYER_CONTROL_PRIORITY = 0;
+    private static final int DORMANCY_PRIORITY = 1;
+    private static final int ENEMY_AI_PRIORITY = 2;
+    private static final int COLLISION_PRIORITY = 3;
+    private static final int MOVEMENT_PRIORITY = 4;
+    private static final int PROJECTILE_PRIORITY = 5;
+    private static final int DAMAGE_PRIORITY = 6;
+    private static final int EXPLOSION_PRIORITY = 7;
+    private static final int WEAPON_PRIORITY = 8;
+    private static final int ANIMATION_PRIORITY = 9;
+    private static final int RENDER_PRIORITY = 10;
+
+    private final OrthographicCamera camera;
+    private final Assets assets;
+    private final SoundBank soundBank;
+    private final SpatialHash spatialHash;
+    private final PooledEngine engine;
+    private final EntityRegistry entityRegistry = new EntityRegistry();
+    // Drives spawn points and each enemy's own generator; seed it before populate() to make a battle repeatable
+    private final RandomXS128 random = new RandomXS128();
+    private final EntityFactory entityFactory;
+    private final DormancySystem dormancySystem;
+    private final ProjectileSystem projectileSystem;
+    private final RenderSystem renderSystem;
+    private final EntityRegistry.Group enemyTanks;
+    private final EntityRegistry.Group healthBars;
+
+    private Entity playerTank;
+    private float timeSinceLastSpawn = 0;
+    private int maxEnemyTanks = DEFAULT_MAX_ENEMY_TANKS;
+    private float interpolationAlpha = 1f;
+    private long lastSpawnNanos;
+    private PlayerInput playerInput = PlayerInput.KEYBOARD;
+
+    private int score = 0;
+    private boolean playerDestroyed = false;
+
+    public GameWorld(OrthographicCamera camera, Assets assets, SoundBank soundBank) {
+        this.camera = camera;
+        this.assets = assets;
+        this.soundBank = soundBank;
+        this.spatialHash = new SpatialHash(WORLD_WIDTH, WORLD_HEIGHT, COLLISION_CELL_SIZE);
+        this.engine = new PooledEngine(INITIAL_POOL_SIZE, MAX_POOL_SIZE, INITIAL_POOL_SIZE, MAX_POOL_SIZE);
+        engine.addEntityListener(entityRegistry);
+        enemyTanks = entityRegistry.createGroup(engine, Family.all(EnemyAiComponent.class).get());
+        healthBars = entityRegistry.createGroup(engine,
+            Family.all(PositionComponent.class, HealthComponent.class, HealthBarComponent.class).get());
+        this.entityFactory = new EntityFactory(this, engine);
+
+        engine.addSystem(new PlayerControlSystem(this, PLAYER_CONTROL_PRIORITY));
+        dormancySystem = new DormancySystem(this, DORMANCY_PRIORITY);
+        engine.addSystem(dormancySystem);
+        engine.addSystem(new EnemyAiSystem(this, ENEMY_AI_PRIORITY));
+        engine.addSystem(new CollisionSystem(this, COLLISION_PRIORITY));
+        engine.addSystem(new MovementSystem(this, MOVEMENT_PRIORITY));
+        projectileSystem = new ProjectileSystem(this, PROJECTILE_PRIORITY);
+        engine.addSystem(projectileSystem);
+        engine.addSystem(new DamageSystem(this, DAMAGE_PRIORITY));
+        engine.addSystem(new ExplosionSystem(this, EXPLOSION_PRIORITY));
+        engine.addSystem(new WeaponSystem(this, WEAPON_PRIORITY));
+        engine.addSystem(new AnimationSystem(ANIMATION_PRIORITY));
+        renderSystem = new RenderSystem(this, RENDER_PRIORITY);
+        engine.addSystem(renderSystem);
+
+        // Entities share the loaded assets and should never own a native resource; one that still holds one
+        // when it leaves the world would leak it once the engine pools the entity
+        engine.addEntityListener(new EntityListener() {
+            @Override
+            public void entityAdded(Entity entity) {}
+
+            @Override
+            public void entityRemoved(Entity entity) {
+                ResourceTracker.checkReleased(entity);
+            }
+        });
+    }
+
+    public void populate() {
+        createPlayerTank();
+        createEnemyTanks();
+    }
+
+    // Returns every entity to the engine's pools and resets the world in place; loaded assets stay resident
+    public void clear() {
+        engine.removeAllEntities();
+        soundBank.stopAll();
+        projectileSystem.clear();
+        dormancySystem.clear();
+        spatialHash.clear();
+        playerTank = null;
+        timeSinceLastSpawn = 0;
+        score = 0;
+        playerDestroyed = false;
+        interpolationAlpha = 1f;
+    }
+
+    // Advances the simulation by exactly one tick
+    public void step(float tickDuration) {
+        long spawnStart = System.nanoTime();
+        timeSinceLastSpawn += tickDuration;
+        if (timeSinceLastSpawn >= SPAWN_INTERVAL && enemyTanks.size() < maxEnemyTanks) {
+            spawnEnemyTank();
+            timeSinceLastSpawn = 0;
+        }
+        lastSpawnNanos = System.nanoTime() - spawnStart;
+
+        engine.update(tickDuration);
+    }
+
+    // Draws the world into a batch the caller has already begun
+    public void render(Batch batch) {
+        renderSystem.draw(batch);
+    }
+
+    public void createPlayerTank() {
+        playerTank = entityFactory.createPlayerTank(PLAYER_START_X, PLAYER_START_Y);
+    }
+
+    private void createEnemyTanks() {
+        addEnemyTank(2500f, 1000f);
+        addEnemyTank(2000f, 2000f);
+        addEnemyTank(3000f, 3000f);
+    }
+
+    // Places one enemy at an exact spot, used by benchmarks to build fixed layouts
+    public Entity addEnemyTank(float x, float y) {
+        return entityFactory.createEnemyTank(x, y);
+    }
+
+    // Spawns enemies at random spots away from the player, used by load tests to reach a target population
+    public void spawnEnemyTanks(int count) {
+        for (int i = 0; i < count; i++) {
+            spawnEnemyTank();
+        }
+    }
+
+    private void spawnEnemyTank() {
+        PositionComponent player = Mappers.position.get(playerTank);
+        float clearLeft = player.x - SPAWN_CLEARANCE;
+        float clearRight = player.x + SPAWN_CLEARANCE;
+        float clearBottom = player.y - SPAWN_CLEARANCE;
+        float clearTop = player.y + SPAWN_CLEARANCE;
+
+        float spawnX = 0, spawnY = 0;
+        boolean clear = false;
+        for (int attempt = 0; attempt < SPAWN_ATTEMPTS && !clear; attempt++) {
+            spawnX = random.nextFloat() * WORLD_WIDTH;
+            spawnY = random.nextFloat() * WORLD_HEIGHT;
+            clear = spawnX <= clearLeft || spawnX >= clearRight || spawnY <= clearBottom || spawnY >= clearTop;
+        }
+        if (!clear) {
+            // Nothing found outside the square, so use the world corner farthest from the player
+            spawnX = player.x < WORLD_WIDTH / 2 ? WORLD_WIDTH : 0;
+            spawnY = player.y < WORLD_HEIGHT / 2 ? WORLD_HEIGHT : 0;
+        }
+
+        addEnemyTank(spawnX, spawnY);
+        GameEvents.enemySpawned(spawnX, spawnY, enemyTanks.size());
+    }
+
+    // Queues a player shot for the next tick; called from the input handler so presses between ticks are kept
+    public void requestPlayerFire() {
+        if (playerTank != null) {
+            Mappers.turret.get(playerTank).fireRequested = true;
+        }
+    }
+
+    // True while a player shot is queued for the next tick
+    public boolean isPlayerFireRequested() {
+        return playerTank != null && Mappers.turret.get(playerTank).fireRequested;
+    }
+
+    public void incrementScore() {
+        score++;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public void onPlayerDestroyed() {
+        playerDestroyed = true;
+    }
+
+    public boolean isPlayerDestroyed() {
+        return playerDestroyed;
+    }
+
+    public void setMaxEnemyTanks(int maxEnemyTanks) {
+        this.maxEnemyTanks = maxEnemyTanks;
+    }
+
+    public int getMaxEnemyTanks() {
+        return maxEnemyTanks;
+    }
+
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    public RandomXS128 getRandom() {
+        return random;
+    }
+
+    public void setPlayerInput(PlayerInput playerInput) {
+        this.playerInput = playerInput;
+    }
+
+    public PlayerInput getPlayerInput() {
+        return playerInput;
+    }
+
+    public void setInterpolationAlpha(float interpolationAlpha) {
+        this.interpolationAlpha = interpolationAlpha;
+    }
+
+    // Fraction of a tick elapsed since the last step, used to blend previous and current positions when drawing
+    public float getInterpolationAlpha() {
+        return interpolationAlpha;
+    }
+
+    // Systems in the order they run; the simulation ones report the duration of their last update
+    public ImmutableArray<EntitySystem> getSystems() {
+        return engine.getSystems();
+    }
+
+    public PooledEngine getEngine() {
+        return engine;
+    }
+
+    public EntityRegistry getEntityRegistry() {
+        return entityRegistry;
+    }
+
+    public RenderSystem getRenderSystem() {
+        return renderSystem;
+    }
+
+    public ProjectileSystem getProjectileSystem() {
+        return projectileSystem;
+    }
+
+    public EntityFactory getEntityFactory() {
+        return entityFactory;
+    }
+
+    public OrthographicCamera getCamera() {
+        return camera;
+    }
+
+    public Assets getAssets() {
+        return assets;
+    }
+
+    public SoundBank getSoundBank() {
+        return soundBank;
+    }
+
+    public SpatialHash getSpatialHash() {
+        return spatialHash;
+    }
+
+    public Entity getPlayerTank() {
+        return playerTank;
+    }
+
+    // Every enemy in the world, including ones still playing their explosion
+    public EntityRegistry.Group getEnemyTanks() {
+        return enemyTanks;
+    }
+
+    public EntityRegistry.Group getHealthBars() {
+        return healthBars;
+    }
+
+    // Time the spawner took during the last step
+    public long getLastSpawnNanos() {
+        return lastSpawnNanos;
+    }
+}
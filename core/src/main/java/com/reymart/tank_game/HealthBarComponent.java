@@ -0,0 +1,22 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+// Draws a red and green bar above the entity showing its HealthComponent
+public class HealthBarComponent implements Component, Pool.Poolable {
+    public static final float DEFAULT_WIDTH = 50f;
+    public static final float DEFAULT_HEIGHT = 5f;
+    public static final float DEFAULT_OFFSET_Y = 10f;
+
+    public float width = DEFAULT_WIDTH;
+    public float height = DEFAULT_HEIGHT;
+    public float offsetY = DEFAULT_OFFSET_Y; // Gap between the top of the entity and the bar
+
+    @Override
+    public void reset() {
+        width = DEFAULT_WIDTH;
+        height = DEFAULT_HEIGHT;
+        offsetY = DEFAULT_OFFSET_Y;
+    }
+}
@@ -0,0 +1,19 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+// Hit points. Shell hits are counted here by ProjectileSystem and applied by DamageSystem.
+public class HealthComponent implements Component, Pool.Poolable {
+    public int current;
+    public int max;
+    public int damagePerHit; // Damage this tank takes from one shell
+    public int pendingHits;
+
+    @Override
+    public void reset() {
+        current = max = 0;
+        damagePerHit = 0;
+        pendingHits = 0;
+    }
+}
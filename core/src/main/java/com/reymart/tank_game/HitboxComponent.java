@@ -0,0 +1,22 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Pool;
+
+// Collision rectangle kept at a fixed offset from the entity's position
+public class HitboxComponent implements Component, Pool.Poolable {
+    public final Rectangle bounds = new Rectangle();
+    public float offsetX;
+    public float offsetY;
+
+    public void sync(PositionComponent position) {
+        bounds.setPosition(position.x + offsetX, position.y + offsetY);
+    }
+
+    @Override
+    public void reset() {
+        bounds.set(0, 0, 0, 0);
+        offsetX = offsetY = 0f;
+    }
+}
@@ -0,0 +1,318 @@
+package com.reymart.tank_game;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.LongArray;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+
+// The player's input for every simulation tick, recorded to a small binary file and played back exactly.
+// A battle depends only on the world's seed and this input, so replaying a recording repeats the same fight
+// tick for tick, in the windowed game or headless, which makes it usable as a benchmark across builds.
+//
+// Layout, big endian:
+//   header  int magic 'TGIR', int version, long seed, float world size, int max enemy tanks
+//   runs    byte key mask, varint tick count; one run per stretch of ticks with the same keys held
+//   end     byte END_OF_INPUT, then int ticks, int score, int enemies, float player x, float player y
+// A recording cut off before its end block still plays; it just cannot be checked against the original result.
+public final class InputRecording {
+    public static final int MAGIC = 0x54474952; // "TGIR"
+    public static final int VERSION = 1;
+    // Bit i of a tick's mask is KEYS[i] held; FIRE_BIT is a SPACE press latched for that tick
+    private static final int[] KEYS = {
+        Input.Keys.W, Input.Keys.S, Input.Keys.A, Input.Keys.D, Input.Keys.LEFT, Input.Keys.RIGHT
+    };
+    private static final int FIRE_BIT = 1 << KEYS.length;
+    private static final int END_OF_INPUT = 0xFF;
+
+    private InputRecording() {}
+
+    // Starts a recording of a world seeded with seed; call before populating it
+    public static Recorder record(File path, long seed, GameWorld world) {
+        return new Recorder(path, seed, world);
+    }
+
+    public static Playback read(File path) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(path)))) {
+            return new Playback(path, in);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not read input recording: " + path, e);
+        }
+    }
+
+    private static int mask(PlayerInput input, boolean fire) {
+        int mask = fire ? FIRE_BIT : 0;
+        for (int i = 0; i < KEYS.length; i++) {
+            if (input.isKeyPressed(KEYS[i])) mask |= 1 << i;
+        }
+        return mask;
+    }
+
+    // Appends each tick's input to the file; run lengths keep a held key to a few bytes however long it is held
+    public static final class Recorder implements Disposable {
+        private final File path;
+        private final DataOutputStream out;
+        private int runMask = -1;
+        private int runLength;
+        private int ticks;
+        private boolean closed;
+
+        Recorder(File path, long seed, GameWorld world) {
+            this.path = path;
+            try {
+                out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)));
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(seed);
+                out.writeFloat(GameWorld.WORLD_SIZE);
+                out.writeInt(world.getMaxEnemyTanks());
+            } catch (IOException e) {
+                throw new GdxRuntimeException("Could not create input recording: " + path, e);
+            }
+        }
+
+        // Call right before each world.step() with the input that tick will read
+        public void record(GameWorld world) {
+            int mask = mask(world.getPlayerInput(), world.isPlayerFireRequested());
+            if (mask != runMask) {
+                writeRun();
+                runMask = mask;
+            }
+            runLength++;
+            ticks++;
+        }
+
+        // Writes the end block with the world's state, so a playback can tell whether it arrived at the same place
+        public void finish(GameWorld world) {
+            if (closed) return;
+            try {
+                writeRun();
+                out.writeByte(END_OF_INPUT);
+                out.writeInt(ticks);
+                out.writeInt(world.getScore());
+                out.writeInt(world.getEnemyTanks().size());
+                PositionComponent player = Mappers.position.get(world.getPlayerTank());
+                out.writeFloat(player.x);
+                out.writeFloat(player.y);
+            } catch (IOException e) {
+                throw new GdxRuntimeException("Could not write input recording: " + path, e);
+            } finally {
+                dispose();
+            }
+        }
+
+        private void writeRun() {
+            if (runLength == 0) return;
+            try {
+                out.writeByte(runMask);
+                // Unsigned varint, seven bits at a time
+                int length = runLength;
+                while ((length & ~0x7F) != 0) {
+                    out.writeByte((length & 0x7F) | 0x80);
+                    length >>>= 7;
+                }
+                out.writeByte(length);
+            } catch (IOException e) {
+                throw new GdxRuntimeException("Could not write input recording: " + path, e);
+            }
+            runLength = 0;
+        }
+
+        public int getTicks() {
+            return ticks;
+        }
+
+        public File getPath() {
+            return path;
+        }
+
+        // Closes the file without an end block; finish() is the normal way out
+        @Override
+        public void dispose() {
+            if (closed) return;
+            closed = true;
+            try {
+                writeRun();
+                out.close();
+            } catch (IOException e) {
+                throw new GdxRuntimeException("Could not close input recording: " + path, e);
+            }
+        }
+    }
+
+    // Feeds a recording back to the world one tick at a time, and times the ticks and frames it drives
+    public static final class Playback implements PlayerInput {
+        private final File path;
+        private final long seed;
+        private final int maxEnemyTanks;
+        private final byte[] masks;
+        private final boolean hasResult;
+        private int expectedScore;
+        private int expectedEnemies;
+        private float expectedPlayerX;
+        private float expectedPlayerY;
+
+        private int tick;
+        private final LongArray tickNanos = new LongArray();
+        private final LongArray frameNanos = new LongArray();
+
+        Playback(File path, DataInputStream in) throws IOException {
+            this.path = path;
+            if (in.readInt() != MAGIC) {
+                throw new GdxRuntimeException("Not an input recording: " + path);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new GdxRuntimeException("Unsupported input recording version " + version + ": " + path);
+            }
+            seed = in.readLong();
+            float worldSize = in.readFloat();
+            if (worldSize != GameWorld.WORLD_SIZE) {
+                throw new GdxRuntimeException(path + " was recorded with -Dtankgame.worldSize=" + (int) worldSize);
+            }
+            maxEnemyTanks = in.readInt();
+
+            byte[] decoded = new byte[1024];
+            int count = 0;
+            boolean ended = false;
+            while (true) {
+                int mask;
+                try {
+                    mask = in.readUnsignedByte();
+                } catch (EOFException e) {
+                    break; // Cut off without an end block
+                }
+                if (mask == END_OF_INPUT) {
+                    ended = true;
+                    break;
+                }
+                int length = 0;
+                for (int shift = 0; ; shift += 7) {
+                    int part = in.readUnsignedByte();
+                    length |= (part & 0x7F) << shift;
+                    if ((part & 0x80) == 0) break;
+                }
+                if (count + length > decoded.length) {
+                    decoded = Arrays.copyOf(decoded, Math.max(decoded.length * 2, count + length));
+                }
+                Arrays.fill(decoded, count, count + length, (byte) mask);
+                count += length;
+            }
+            masks = Arrays.copyOf(decoded, count);
+
+            hasResult = ended;
+            if (ended) {
+                int ticks = in.readInt();
+                if (ticks != count) {
+                    throw new GdxRuntimeException("Corrupt input recording, " + count + " of " + ticks + " ticks: " + path);
+                }
+                expectedScore = in.readInt();
+                expectedEnemies = in.readInt();
+                expectedPlayerX = in.readFloat();
+                expectedPlayerY = in.readFloat();
+            }
+        }
+
+        // Seeds and sizes a new world the way the recorded one was; call before populating it
+        public void prepare(GameWorld world) {
+            world.setSeed(seed);
+            world.setMaxEnemyTanks(maxEnemyTanks);
+            world.setPlayerInput(this);
+        }
+
+        // Call right before each world.step(); queues the tick's shot
+        public void beforeTick(GameWorld world) {
+            if ((masks[tick] & FIRE_BIT) != 0) {
+                world.requestPlayerFire();
+            }
+        }
+
+        public void afterTick(long nanos) {
+            tickNanos.add(nanos);
+            tick++;
+        }
+
+        public void frameFinished(long nanos) {
+            frameNanos.add(nanos);
+        }
+
+        public boolean isFinished() {
+            return tick >= masks.length;
+        }
+
+        @Override
+        public boolean isKeyPressed(int keycode) {
+            if (tick >= masks.length) return false;
+            for (int i = 0; i < KEYS.length; i++) {
+                if (KEYS[i] == keycode) return (masks[tick] & 1 << i) != 0;
+            }
+            return false;
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        public int getTickCount() {
+            return masks.length;
+        }
+
+        public int getTick() {
+            return tick;
+        }
+
+        // Null when the world ended where the recording did, or when the recording has no end block to compare with
+        public String checkResult(GameWorld world) {
+            if (!hasResult) return null;
+            PositionComponent player = Mappers.position.get(world.getPlayerTank());
+            if (tick == masks.length && world.getScore() == expectedScore && world.getEnemyTanks().size() == expectedEnemies
+                && player.x == expectedPlayerX && player.y == expectedPlayerY) {
+                return null;
+            }
+            return String.format(Locale.ROOT,
+                "Replay of %s diverged: tick %d/%d, score %d (recorded %d), enemies %d (recorded %d), player %.2f,%.2f (recorded %.2f,%.2f)",
+                path, tick, masks.length, world.getScore(), expectedScore, world.getEnemyTanks().size(), expectedEnemies,
+                player.x, player.y, expectedPlayerX, expectedPlayerY);
+        }
+
+        // Tick and frame time percentiles over the ticks and frames played so far
+        public String getTimingReport() {
+            long total = 0;
+            for (int i = 0; i < tickNanos.size; i++) {
+                total += tickNanos.get(i);
+            }
+            StringBuilder report = new StringBuilder(String.format(Locale.ROOT, "replay %s ticks=%d tick time %.1f ms",
+                path.getName(), tickNanos.size, total / 1e6));
+            appendPercentiles(report, "tick", tickNanos);
+            if (frameNanos.size > 0) {
+                report.append(String.format(Locale.ROOT, " frames=%d", frameNanos.size));
+                appendPercentiles(report, "frame", frameNanos);
+            }
+            return report.toString();
+        }
+
+        private static void appendPercentiles(StringBuilder report, String name, LongArray nanos) {
+            if (nanos.size == 0) return;
+            long[] sorted = nanos.toArray();
+            Arrays.sort(sorted);
+            report.append(String.format(Locale.ROOT, " %s p50=%.3fms p99=%.3fms max=%.3fms", name,
+                percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6, sorted[sorted.length - 1] / 1e6));
+        }
+
+        private static long percentile(long[] sorted, double fraction) {
+            int index = (int) Math.ceil(fraction * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+    }
+}
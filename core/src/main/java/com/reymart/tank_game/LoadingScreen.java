@@ -0,0 +1,47 @@
+package com.reymart.tank_game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+
+// Progress bar shown while the atlases, sounds and fonts load in the background.
+// Uses only the built-in font and the white pixel so it can draw from the very first frame.
+public class LoadingScreen implements Disposable {
+    private static final float BAR_WIDTH = 400f;
+    private static final float BAR_HEIGHT = 16f;
+
+    private final SpriteBatch batch;
+    private final TextureRegion pixel;
+    private final BitmapFont font = ResourceTracker.track(new BitmapFont(), this);
+    private final Matrix4 screenMatrix = new Matrix4();
+
+    public LoadingScreen(SpriteBatch batch, Assets assets) {
+        this.batch = batch;
+        this.pixel = assets.getPixel();
+    }
+
+    public void render(float progress) {
+        float width = Gdx.graphics.getWidth();
+        float height = Gdx.graphics.getHeight();
+        float barX = (width - BAR_WIDTH) / 2;
+        float barY = height / 2 - BAR_HEIGHT / 2;
+
+        screenMatrix.setToOrtho2D(0, 0, width, height);
+        batch.setProjectionMatrix(screenMatrix);
+        batch.begin();
+        batch.setColor(0f, 0f, 0f, 0.6f);
+        batch.draw(pixel, barX, barY, BAR_WIDTH, BAR_HEIGHT);
+        batch.setColor(1f, 1f, 1f, 1f);
+        batch.draw(pixel, barX, barY, BAR_WIDTH * progress, BAR_HEIGHT);
+        font.draw(batch, "Loading...", barX, barY + BAR_HEIGHT + 24);
+        batch.end();
+    }
+
+    @Override
+    public void dispose() {
+        ResourceTracker.dispose(font);
+    }
+}
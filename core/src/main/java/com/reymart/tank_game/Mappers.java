@@ -0,0 +1,21 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.ComponentMapper;
+
+// Shared component mappers; a mapper lookup is an array index, much cheaper than Entity.getComponent()
+public final class Mappers {
+    public static final ComponentMapper<PositionComponent> position = ComponentMapper.getFor(PositionComponent.class);
+    public static final ComponentMapper<VelocityComponent> velocity = ComponentMapper.getFor(VelocityComponent.class);
+    public static final ComponentMapper<HitboxComponent> hitbox = ComponentMapper.getFor(HitboxComponent.class);
+    public static final ComponentMapper<HealthComponent> health = ComponentMapper.getFor(HealthComponent.class);
+    public static final ComponentMapper<TurretComponent> turret = ComponentMapper.getFor(TurretComponent.class);
+    public static final ComponentMapper<PlayerComponent> player = ComponentMapper.getFor(PlayerComponent.class);
+    public static final ComponentMapper<EnemyAiComponent> enemyAi = ComponentMapper.getFor(EnemyAiComponent.class);
+    public static final ComponentMapper<DormantComponent> dormant = ComponentMapper.getFor(DormantComponent.class);
+    public static final ComponentMapper<ExplosionComponent> explosion = ComponentMapper.getFor(ExplosionComponent.class);
+    public static final ComponentMapper<TankSpriteComponent> tankSprite = ComponentMapper.getFor(TankSpriteComponent.class);
+    public static final ComponentMapper<HealthBarComponent> healthBar = ComponentMapper.getFor(HealthBarComponent.class);
+
+    private Mappers() {
+    }
+}
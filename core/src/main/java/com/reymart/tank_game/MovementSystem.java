@@ -0,0 +1,30 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.math.MathUtils;
+
+// Applies each tank's velocity for the tick, keeps it inside the world and moves its hitbox in the grid
+public class MovementSystem extends TimedIteratingSystem {
+    private final SpatialHash spatialHash;
+
+    public MovementSystem(GameWorld world, int priority) {
+        super(Family.all(PositionComponent.class, VelocityComponent.class, HitboxComponent.class)
+            .exclude(DormantComponent.class).get(), priority);
+        this.spatialHash = world.getSpatialHash();
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float delta) {
+        VelocityComponent velocity = Mappers.velocity.get(entity);
+        if (velocity.x == 0 && velocity.y == 0) return;
+
+        PositionComponent position = Mappers.position.get(entity);
+        HitboxComponent hitbox = Mappers.hitbox.get(entity);
+
+        position.x = MathUtils.clamp(position.x + velocity.x * delta, 0, GameWorld.WORLD_WIDTH - position.width);
+        position.y = MathUtils.clamp(position.y + velocity.y * delta, 0, GameWorld.WORLD_HEIGHT - position.height);
+        hitbox.sync(position);
+        spatialHash.update(entity, hitbox.bounds);
+    }
+}
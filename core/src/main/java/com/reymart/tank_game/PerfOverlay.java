@@ -0,0 +1,259 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+// Screen-space debug overlay toggled with F3: a frame time graph with percentiles, where the frame's CPU time went
+// (spawning, each simulation system summed over the frame's ticks, background, world and UI drawing),
+// live entity counts, JVM heap and GC activity, GL draw calls and texture binds, and live native resources by type.
+// Numbers are collected every frame while the overlay is visible; the text is rebuilt a few times a second
+// into a reused builder without String.format, so opening the overlay does not add garbage to the frames it measures.
+public class PerfOverlay implements Disposable {
+    public static final int SECTION_BACKGROUND = 0;
+    public static final int SECTION_WORLD_DRAW = 1;
+    public static final int SECTION_UI = 2;
+    private static final String[] SECTION_NAMES = {"background", "world draw", "UI"};
+
+    private static final int HISTORY = 240;
+    private static final float TEXT_INTERVAL = 0.25f;
+    private static final float GRAPH_HEIGHT = 80f;
+    // A frame at the 60 Hz budget fills half the graph height
+    private static final float GRAPH_MILLIS = 1000f / 60f * 2;
+    private static final float MARGIN = 10f;
+    private static final int NAME_WIDTH = 12;
+    private static final int MILLIS_WIDTH = 6;
+
+    private final SpriteBatch batch;
+    private final TextureRegion pixel;
+    private final BitmapFont font = ResourceTracker.track(new BitmapFont(), this);
+    private final Matrix4 screenMatrix = new Matrix4();
+    private final StringBuilder text = new StringBuilder(512);
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+    private final float[] frameMillis = new float[HISTORY];
+    private final float[] sortedMillis = new float[HISTORY];
+    private int frameIndex;
+    private int frameCount;
+
+    private final long[] sectionNanos = new long[SECTION_NAMES.length];
+    private long spawnNanos;
+    private long[] systemNanos = new long[0];
+    // Class names without the "System" suffix, null for systems that are not timed
+    private String[] systemNames = new String[0];
+    private int ticksThisFrame;
+    // Sums over the frames since the text was last rebuilt, shown as per-frame means
+    private final long[] sectionTotals = new long[SECTION_NAMES.length];
+    private long spawnTotal;
+    private long[] systemTotals = new long[0];
+    private int framesSinceText;
+    private float textTimer = TEXT_INTERVAL;
+
+    private boolean visible;
+
+    public PerfOverlay(SpriteBatch batch, Assets assets) {
+        this.batch = batch;
+        this.pixel = assets.getPixel();
+    }
+
+    public void toggle() {
+        visible = !visible;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    // Adds the spawn and per-system times of the tick GameWorld just ran to this frame's totals
+    public void recordTick(GameWorld world) {
+        if (!visible) return;
+
+        ImmutableArray<EntitySystem> systems = world.getSystems();
+        if (systemNanos.length != systems.size()) {
+            systemNanos = new long[systems.size()];
+            systemTotals = new long[systems.size()];
+            systemNames = new String[systems.size()];
+            for (int i = 0; i < systems.size(); i++) {
+                EntitySystem system = systems.get(i);
+                if (system instanceof TimedSystem) {
+                    systemNames[i] = system.getClass().getSimpleName().replace("System", "");
+                }
+            }
+        }
+        spawnNanos += world.getLastSpawnNanos();
+        for (int i = 0; i < systems.size(); i++) {
+            EntitySystem system = systems.get(i);
+            if (system instanceof TimedSystem) {
+                systemNanos[i] += ((TimedSystem) system).getLastUpdateNanos();
+            }
+        }
+        ticksThisFrame++;
+    }
+
+    public void recordSection(int section, long nanos) {
+        if (!visible) return;
+        sectionNanos[section] += nanos;
+    }
+
+    // Closes the frame's measurements and draws the overlay in screen space
+    public void render(GameWorld world, float frameDelta, int drawCalls, int textureBindings) {
+        if (!visible) return;
+
+        frameMillis[frameIndex] = frameDelta * 1000f;
+        frameIndex = (frameIndex + 1) % HISTORY;
+        frameCount = Math.min(frameCount + 1, HISTORY);
+
+        for (int i = 0; i < sectionNanos.length; i++) {
+            sectionTotals[i] += sectionNanos[i];
+            sectionNanos[i] = 0;
+        }
+        for (int i = 0; i < systemNanos.length; i++) {
+            systemTotals[i] += systemNanos[i];
+            systemNanos[i] = 0;
+        }
+        spawnTotal += spawnNanos;
+        spawnNanos = 0;
+        framesSinceText++;
+
+        textTimer += frameDelta;
+        if (textTimer >= TEXT_INTERVAL) {
+            textTimer = 0f;
+            rebuildText(world, drawCalls, textureBindings);
+        }
+
+        screenMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        batch.setProjectionMatrix(screenMatrix);
+        batch.begin();
+        drawGraph();
+        font.draw(batch, text, MARGIN, Gdx.graphics.getHeight() - MARGIN);
+        batch.end();
+        ticksThisFrame = 0;
+    }
+
+    private void rebuildText(GameWorld world, int drawCalls, int textureBindings) {
+        System.arraycopy(frameMillis, 0, sortedMillis, 0, frameCount);
+        Arrays.sort(sortedMillis, 0, frameCount);
+        int frames = Math.max(1, framesSinceText);
+
+        text.setLength(0);
+        text.append("frame  p50 ");
+        appendFixed(text, percentile(0.50f), 1);
+        text.append(" ms  p99 ");
+        appendFixed(text, percentile(0.99f), 1);
+        text.append(" ms  max ");
+        appendFixed(text, percentile(1f), 1);
+        text.append(" ms  ticks ").append(ticksThisFrame).append('\n');
+        appendMillis("spawn", spawnTotal, frames);
+        for (int i = 0; i < systemTotals.length; i++) {
+            if (systemNames[i] == null) continue;
+            appendMillis(systemNames[i], systemTotals[i], frames);
+            systemTotals[i] = 0;
+        }
+        for (int i = 0; i < SECTION_NAMES.length; i++) {
+            appendMillis(SECTION_NAMES[i], sectionTotals[i], frames);
+            sectionTotals[i] = 0;
+        }
+        spawnTotal = 0;
+        framesSinceText = 0;
+
+        int enemies = world.getEnemyTanks().size();
+        RenderSystem renderSystem = world.getRenderSystem();
+        text.append("enemies ").append(enemies)
+            .append("  shells ").append(world.getProjectileSystem().getShellCount())
+            .append("  health bars ").append(world.getHealthBars().size())
+            .append("  entities ").append(world.getEngine().getEntities().size()).append('\n');
+        text.append("drawn ").append(renderSystem.getDrawnCount())
+            .append("  culled ").append(renderSystem.getCulledCount())
+            .append("  draw calls ").append(drawCalls)
+            .append("  texture binds ").append(textureBindings).append('\n');
+
+        Runtime runtime = Runtime.getRuntime();
+        long gcCount = 0;
+        long gcMillis = 0;
+        // Indexed, as an iterator would be garbage
+        for (int i = 0; i < collectors.size(); i++) {
+            GarbageCollectorMXBean collector = collectors.get(i);
+            gcCount += Math.max(0, collector.getCollectionCount());
+            gcMillis += Math.max(0, collector.getCollectionTime());
+        }
+        text.append("heap ").append((runtime.totalMemory() - runtime.freeMemory()) >> 20)
+            .append(" / ").append(runtime.maxMemory() >> 20)
+            .append(" MB  gc ").append(gcCount).append(" (").append(gcMillis).append(" ms)\n");
+        text.append("native ").append(ResourceTracker.getLiveCount()).append(" resources (");
+        appendFixed(text, ResourceTracker.getLiveBytes() / 1048576.0, 1);
+        text.append(" MB)\n  ");
+        ResourceTracker.appendSummary(text);
+    }
+
+    private void appendMillis(String name, long totalNanos, int frames) {
+        text.append("  ").append(name);
+        for (int i = name.length(); i < NAME_WIDTH; i++) {
+            text.append(' ');
+        }
+        text.append(' ');
+        int start = text.length();
+        appendFixed(text, totalNanos / 1e6 / frames, 3);
+        while (text.length() - start < MILLIS_WIDTH) {
+            text.insert(start, ' ');
+        }
+        text.append(" ms\n");
+    }
+
+    // Appends the value rounded to the given number of decimals, like %.nf but without boxing or a Formatter
+    static void appendFixed(StringBuilder text, double value, int decimals) {
+        long scale = 1;
+        for (int i = 0; i < decimals; i++) {
+            scale *= 10;
+        }
+        long scaled = Math.round(Math.abs(value) * scale);
+        if (value < 0 && scaled != 0) text.append('-');
+        text.append(scaled / scale);
+        if (decimals == 0) return;
+        text.append('.');
+        long fraction = scaled % scale;
+        for (long digit = scale / 10; digit > fraction && digit > 1; digit /= 10) {
+            text.append('0');
+        }
+        text.append(fraction);
+    }
+
+    private float percentile(float fraction) {
+        if (frameCount == 0) return 0f;
+        int index = (int) Math.ceil(fraction * frameCount) - 1;
+        return sortedMillis[Math.max(0, Math.min(frameCount - 1, index))];
+    }
+
+    // One bar per frame, oldest on the left; bars over the 60 Hz budget are red
+    private void drawGraph() {
+        float previousColor = batch.getPackedColor();
+        float barWidth = 2f;
+        float left = Gdx.graphics.getWidth() - MARGIN - HISTORY * barWidth;
+        float budget = 1000f / 60f;
+
+        batch.setColor(0f, 0f, 0f, 0.5f);
+        batch.draw(pixel, left, MARGIN, HISTORY * barWidth, GRAPH_HEIGHT);
+        for (int i = 0; i < frameCount; i++) {
+            int index = (frameIndex - frameCount + i + HISTORY) % HISTORY;
+            float millis = frameMillis[index];
+            batch.setColor(millis > budget ? Color.RED : Color.GREEN);
+            batch.draw(pixel, left + i * barWidth, MARGIN, barWidth, Math.min(GRAPH_HEIGHT, millis / GRAPH_MILLIS * GRAPH_HEIGHT));
+        }
+        batch.setPackedColor(previousColor);
+    }
+
+    @Override
+    public void dispose() {
+        ResourceTracker.dispose(font);
+    }
+}
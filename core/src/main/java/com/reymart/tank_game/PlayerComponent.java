@@ -0,0 +1,22 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+// Marks the tank driven by PlayerInput and keeps which of its looping sounds are playing
+public class PlayerComponent implements Component, Pool.Poolable {
+    public float moveSpeed;
+    public float rotationSpeed;
+    public boolean playingMoveSound;
+    public boolean playingIdleSound;
+    public boolean playingTurretSound;
+
+    @Override
+    public void reset() {
+        moveSpeed = 0f;
+        rotationSpeed = 0f;
+        playingMoveSound = false;
+        playingIdleSound = false;
+        playingTurretSound = false;
+    }
+}
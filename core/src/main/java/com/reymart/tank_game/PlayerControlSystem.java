@@ -0,0 +1,100 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.MathUtils;
+
+// Turns the player's input into hull movement, turret rotation and engine sounds
+public class PlayerControlSystem extends TimedIteratingSystem {
+    private final GameWorld world;
+    private final SoundBank soundBank;
+
+    public PlayerControlSystem(GameWorld world, int priority) {
+        super(Family.all(PlayerComponent.class, PositionComponent.class, VelocityComponent.class, TurretComponent.class).get(), priority);
+        this.world = world;
+        this.soundBank = world.getSoundBank();
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float delta) {
+        PlayerComponent player = Mappers.player.get(entity);
+        PositionComponent position = Mappers.position.get(entity);
+        VelocityComponent velocity = Mappers.velocity.get(entity);
+        TurretComponent turret = Mappers.turret.get(entity);
+        TankSpriteComponent sprite = Mappers.tankSprite.get(entity);
+
+        position.previousX = position.x;
+        position.previousY = position.y;
+
+        PlayerInput input = world.getPlayerInput();
+        float radians = position.rotation * MathUtils.degreesToRadians;
+        float moveX = 0;
+        float moveY = 0;
+        boolean moving = false;
+
+        if (input.isKeyPressed(Input.Keys.W)) {
+            moveX = player.moveSpeed * MathUtils.cos(radians);
+            moveY = player.moveSpeed * MathUtils.sin(radians);
+            moving = true;
+        }
+        if (input.isKeyPressed(Input.Keys.S)) {
+            moveX = -player.moveSpeed * MathUtils.cos(radians);
+            moveY = -player.moveSpeed * MathUtils.sin(radians);
+            moving = true;
+        }
+        velocity.set(moveX, moveY);
+
+        if (moving) {
+            if (!player.playingMoveSound) {
+                soundBank.loop(SoundBank.TANK_MOVING, 0.4f);
+                soundBank.stop(SoundBank.TANK_IDLE);
+                player.playingMoveSound = true;
+                player.playingIdleSound = false;
+            }
+        } else {
+            if (player.playingMoveSound) {
+                soundBank.stop(SoundBank.TANK_MOVING);
+                player.playingMoveSound = false;
+            }
+            if (!player.playingIdleSound) {
+                soundBank.loop(SoundBank.TANK_IDLE, 1f);
+                player.playingIdleSound = true;
+            }
+        }
+
+        // The hull turns after the move above, which still uses the heading from the start of the tick
+        boolean turning = false;
+        if (input.isKeyPressed(Input.Keys.A)) {
+            position.rotation += player.rotationSpeed * delta;
+            turning = true;
+        }
+        if (input.isKeyPressed(Input.Keys.D)) {
+            position.rotation -= player.rotationSpeed * delta;
+            turning = true;
+        }
+
+        boolean rotatingTurret = false;
+        if (input.isKeyPressed(Input.Keys.LEFT)) {
+            turret.rotation += player.rotationSpeed * delta;
+            rotatingTurret = true;
+        }
+        if (input.isKeyPressed(Input.Keys.RIGHT)) {
+            turret.rotation -= player.rotationSpeed * delta;
+            rotatingTurret = true;
+        }
+
+        // Keep a single looping voice while the turret turns instead of starting one every frame
+        if (rotatingTurret && !player.playingTurretSound) {
+            soundBank.loop(SoundBank.TURRET_ROTATE, 1f);
+            player.playingTurretSound = true;
+        } else if (!rotatingTurret && player.playingTurretSound) {
+            soundBank.stop(SoundBank.TURRET_ROTATE);
+            player.playingTurretSound = false;
+        }
+
+        if (sprite != null) {
+            sprite.moving = moveX != 0 || moveY != 0 || turning;
+        }
+    }
+}
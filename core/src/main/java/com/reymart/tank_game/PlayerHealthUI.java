@@ -1,32 +1,40 @@
 package com.reymart.tank_game;
 
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 
 public class PlayerHealthUI {
-    private final PlayerTank playerTank;
+    private final GameWorld world;
     private final SpriteBatch batch;
     private final BitmapFont font;
+    private final BitmapFontCache healthCache;
     private final ShapeRenderer shapeRenderer;
+    private int displayedHealth = Integer.MIN_VALUE;
+    private final StringBuilder healthText = new StringBuilder("HP: ");
 
-    public PlayerHealthUI(PlayerTank playerTank, SpriteBatch batch) {
-        this.playerTank = playerTank;
+    public PlayerHealthUI(GameWorld world, SpriteBatch batch) {
+        this.world = world;
         this.batch = batch;
-        this.font = new BitmapFont(); // Default font
-        this.shapeRenderer = new ShapeRenderer();
+        this.font = ResourceTracker.track(new BitmapFont(), this); // Default font
+        this.healthCache = font.newFontCache();
+        this.shapeRenderer = ResourceTracker.track(new ShapeRenderer(), this);
     }
 
     public void render() {
-        float tankX = playerTank.getX();
-        float tankY = playerTank.getY();
+        PositionComponent position = Mappers.position.get(world.getPlayerTank());
+        int health = Mappers.health.get(world.getPlayerTank()).current;
+
+        float tankX = position.getDrawX(world.getInterpolationAlpha());
+        float tankY = position.getDrawY(world.getInterpolationAlpha());
         float healthBarWidth = 50f; // Width of the health bar
         float healthBarHeight = 8f; // Height of the health bar
-        float healthBarX = tankX + playerTank.getWidth() / 2f - healthBarWidth / 2f; // Centered above the tank
-        float healthBarY = tankY + playerTank.getHeight() + 10f; // Slightly above the tank
+        float healthBarX = tankX + position.width / 2f - healthBarWidth / 2f; // Centered above the tank
+        float healthBarY = tankY + position.height + 10f; // Slightly above the tank
 
         // Calculate the health bar fill based on the player's health
-        float healthPercentage = Math.max(0, playerTank.getHealth() / 100f);
+        float healthPercentage = Math.max(0, health / 100f);
         float healthFillWidth = healthBarWidth * healthPercentage;
 
         // Draw the health bar (background and foreground)
@@ -44,13 +52,20 @@ public class PlayerHealthUI {
         shapeRenderer.end();
 
         // Optionally, draw health text
+        if (health != displayedHealth) {
+            displayedHealth = health;
+            healthText.setLength(4);
+            healthText.append(displayedHealth);
+            healthCache.setText(healthText, 0, 0);
+        }
+        healthCache.setPosition(healthBarX, healthBarY + healthBarHeight + 15);
         batch.begin();
-        font.draw(batch, "HP: " + playerTank.getHealth(), healthBarX, healthBarY + healthBarHeight + 15);
+        healthCache.draw(batch);
         batch.end();
     }
 
     public void dispose() {
-        font.dispose();
-        shapeRenderer.dispose();
+        ResourceTracker.dispose(font);
+        ResourceTracker.dispose(shapeRenderer);
     }
 }
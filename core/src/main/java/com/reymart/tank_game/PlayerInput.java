@@ -0,0 +1,16 @@
+package com.reymart.tank_game;
+
+import com.badlogic.gdx.Gdx;
+
+// Source of the held keys the player tank reads each tick.
+// The game polls the keyboard; headless runs plug in a scripted implementation instead.
+public interface PlayerInput {
+    boolean isKeyPressed(int keycode);
+
+    PlayerInput KEYBOARD = new PlayerInput() {
+        @Override
+        public boolean isKeyPressed(int keycode) {
+            return Gdx.input.isKeyPressed(keycode);
+        }
+    };
+}
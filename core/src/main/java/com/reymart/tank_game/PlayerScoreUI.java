@@ -1,55 +1,48 @@
 package com.reymart.tank_game;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.utils.Disposable;
 
 public class PlayerScoreUI implements Disposable {
-    private BitmapFont font;
+    private BitmapFontCache scoreCache;
     private SpriteBatch batch;
-    private PlayerTank playerTank;
-    private int score = 0;
-
-    public PlayerScoreUI(PlayerTank playerTank, SpriteBatch batch) {
-        this.playerTank = playerTank;
+    private GameWorld world;
+    // Laid out again only when the score changes; other frames just move the cached glyphs
+    private int displayedScore = Integer.MIN_VALUE;
+    private final StringBuilder scoreText = new StringBuilder("Score: ");
+
+    // The font belongs to UiFonts
+    public PlayerScoreUI(GameWorld world, SpriteBatch batch, BitmapFont font) {
+        this.world = world;
         this.batch = batch;
-        initializeFont();
-    }
-
-    private void initializeFont() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("fonts/arial.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 20;
-        parameter.color = Color.WHITE;
-        parameter.borderWidth = 2;
-        parameter.borderColor = Color.BLACK;
-        font = generator.generateFont(parameter);
-        generator.dispose();
-    }
-
-    public void incrementScore() {
-        score++;
+        this.scoreCache = font.newFontCache();
     }
 
     public void render() {
-        batch.begin();
+        if (world.getScore() != displayedScore) {
+            displayedScore = world.getScore();
+            scoreText.setLength(7);
+            scoreText.append(displayedScore);
+            scoreCache.setText(scoreText, 0, 0);
+        }
+
+        PositionComponent playerPosition = Mappers.position.get(world.getPlayerTank());
+        float alpha = world.getInterpolationAlpha();
         // Position the score above the health bar
-        String scoreText = "Score: " + score;
-        font.draw(batch, scoreText,
-            playerTank.getX() - 30,
-            playerTank.getY() + 120);
+        scoreCache.setPosition(playerPosition.getDrawX(alpha) - 30, playerPosition.getDrawY(alpha) + 120);
+        batch.begin();
+        scoreCache.draw(batch);
         batch.end();
     }
 
     @Override
     public void dispose() {
-        if (font != null) font.dispose();
+        scoreCache.clear();
     }
 
     public int getScore() {
-        return score;
+        return world.getScore();
     }
 }
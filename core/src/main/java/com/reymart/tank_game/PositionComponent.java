@@ -0,0 +1,40 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Pool;
+
+// Where an entity is, how big it is and which way its body faces.
+// The position at the start of the current tick is kept so drawing can blend between ticks.
+public class PositionComponent implements Component, Pool.Poolable {
+    public float x;
+    public float y;
+    public float width;
+    public float height;
+    public float rotation;
+    public float previousX;
+    public float previousY;
+
+    public void set(float x, float y) {
+        this.x = x;
+        this.y = y;
+        this.previousX = x;
+        this.previousY = y;
+    }
+
+    public float getDrawX(float alpha) {
+        return MathUtils.lerp(previousX, x, alpha);
+    }
+
+    public float getDrawY(float alpha) {
+        return MathUtils.lerp(previousY, y, alpha);
+    }
+
+    @Override
+    public void reset() {
+        x = y = 0f;
+        width = height = 0f;
+        rotation = 0f;
+        previousX = previousY = 0f;
+    }
+}
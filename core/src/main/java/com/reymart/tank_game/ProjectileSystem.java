@@ -0,0 +1,232 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Arrays;
+
+// Every live shell, stored as parallel primitive arrays rather than entities so a tick is one tight loop.
+// Each tick a shell sweeps the segment it travels against the tank hitboxes near it, so a fast shell
+// cannot tunnel through a tank between ticks. Range is turned into a time to live when the shell is fired.
+public class ProjectileSystem extends EntitySystem implements TimedSystem {
+    public static final float SHELL_SPEED = 3000f;
+    // Shells are drawn from their corner; hits are tested from the centre of the 64px sprite
+    public static final float SHELL_SIZE = 64f;
+    private static final float SHELL_HALF_SIZE = SHELL_SIZE / 2;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final SpatialHash spatialHash;
+    private final EntityRegistry entityRegistry;
+    private final Animation<TextureRegion> shellAnimation;
+    // All shells share one animation time
+    private float shellAnimationTime;
+    private final Array<Entity> nearbyEntities = new Array<>();
+    private final Rectangle sweptArea = new Rectangle();
+
+    private int count;
+    private float[] x = new float[INITIAL_CAPACITY];
+    private float[] y = new float[INITIAL_CAPACITY];
+    private float[] previousX = new float[INITIAL_CAPACITY];
+    private float[] previousY = new float[INITIAL_CAPACITY];
+    private float[] velocityX = new float[INITIAL_CAPACITY];
+    private float[] velocityY = new float[INITIAL_CAPACITY];
+    private float[] timeToLive = new float[INITIAL_CAPACITY];
+    private float[] rotation = new float[INITIAL_CAPACITY];
+    // Handles rather than entities, so a shell whose tank has died and been recycled no longer ignores the new tank
+    private long[] owners = new long[INITIAL_CAPACITY];
+
+    private long lastUpdateNanos;
+
+    public ProjectileSystem(GameWorld world, int priority) {
+        super(priority);
+        this.spatialHash = world.getSpatialHash();
+        this.entityRegistry = world.getEntityRegistry();
+        this.shellAnimation = world.getAssets().getAnimation(Assets.TANK_SHELL);
+    }
+
+    // Fires a shell from (startX, startY); a rotation of 0 sends it along -x, matching the turret sprites.
+    // A null owner fires a shell that can hit every tank.
+    public void spawn(Entity owner, float startX, float startY, float degrees, float range) {
+        if (count == x.length) {
+            grow();
+        }
+
+        float radians = degrees * MathUtils.degreesToRadians;
+        int i = count++;
+        x[i] = previousX[i] = startX;
+        y[i] = previousY[i] = startY;
+        velocityX[i] = -SHELL_SPEED * MathUtils.cos(radians);
+        velocityY[i] = -SHELL_SPEED * MathUtils.sin(radians);
+        timeToLive[i] = range / SHELL_SPEED;
+        rotation[i] = degrees;
+        owners[i] = entityRegistry.handleOf(owner);
+    }
+
+    @Override
+    public void update(float delta) {
+        long start = System.nanoTime();
+        shellAnimationTime += delta;
+
+        int i = 0;
+        while (i < count) {
+            // The last step of a shell's life is cut short so it stops exactly at its range
+            float step = Math.min(delta, timeToLive[i]);
+            float startX = x[i];
+            float startY = y[i];
+            float deltaX = velocityX[i] * step;
+            float deltaY = velocityY[i] * step;
+
+            previousX[i] = startX;
+            previousY[i] = startY;
+            x[i] = startX + deltaX;
+            y[i] = startY + deltaY;
+            timeToLive[i] -= delta;
+
+            if (sweepForHit(owners[i], startX + SHELL_HALF_SIZE, startY + SHELL_HALF_SIZE, deltaX, deltaY) || timeToLive[i] <= 0) {
+                removeAt(i); // The last shell now sits at i, so check this slot again
+            } else {
+                i++;
+            }
+        }
+
+        lastUpdateNanos = System.nanoTime() - start;
+    }
+
+    // Records a hit on the first tank other than the owner that the segment enters, if any
+    private boolean sweepForHit(long owner, float startX, float startY, float deltaX, float deltaY) {
+        sweptArea.set(
+            Math.min(startX, startX + deltaX) - SHELL_HALF_SIZE,
+            Math.min(startY, startY + deltaY) - SHELL_HALF_SIZE,
+            Math.abs(deltaX) + SHELL_SIZE,
+            Math.abs(deltaY) + SHELL_SIZE);
+        spatialHash.query(sweptArea, nearbyEntities);
+
+        HealthComponent firstHit = null;
+        float firstTime = Float.MAX_VALUE;
+        for (int n = 0; n < nearbyEntities.size; n++) {
+            Entity tank = nearbyEntities.get(n);
+            if (entityRegistry.handleOf(tank) == owner) continue; // Ignore the tank that fired this shell
+
+            HealthComponent health = Mappers.health.get(tank);
+            if (health == null) continue;
+
+            // Grow the hitbox by half a shell so the shell itself can be treated as a point
+            Rectangle bounds = Mappers.hitbox.get(tank).bounds;
+            float time = segmentEntryTime(startX, startY, deltaX, deltaY,
+                bounds.x - SHELL_HALF_SIZE, bounds.y - SHELL_HALF_SIZE,
+                bounds.x + bounds.width + SHELL_HALF_SIZE, bounds.y + bounds.height + SHELL_HALF_SIZE);
+            if (time >= 0 && time < firstTime) {
+                firstTime = time;
+                firstHit = health;
+            }
+        }
+
+        if (firstHit == null) return false;
+        firstHit.pendingHits++;
+        return true;
+    }
+
+    // Slab test: the fraction of the segment at which it enters the box, 0 if it starts inside, -1 if it misses
+    static float segmentEntryTime(float startX, float startY, float deltaX, float deltaY,
+                                  float minX, float minY, float maxX, float maxY) {
+        float enter = 0f;
+        float exit = 1f;
+
+        if (deltaX == 0) {
+            if (startX <= minX || startX >= maxX) return -1f;
+        } else {
+            float inverse = 1f / deltaX;
+            float near = (minX - startX) * inverse;
+            float far = (maxX - startX) * inverse;
+            if (near > far) {
+                float swap = near;
+                near = far;
+                far = swap;
+            }
+            enter = Math.max(enter, near);
+            exit = Math.min(exit, far);
+            if (enter >= exit) return -1f;
+        }
+
+        if (deltaY == 0) {
+            if (startY <= minY || startY >= maxY) return -1f;
+        } else {
+            float inverse = 1f / deltaY;
+            float near = (minY - startY) * inverse;
+            float far = (maxY - startY) * inverse;
+            if (near > far) {
+                float swap = near;
+                near = far;
+                far = swap;
+            }
+            enter = Math.max(enter, near);
+            exit = Math.min(exit, far);
+            if (enter >= exit) return -1f;
+        }
+
+        return enter;
+    }
+
+    // Swap-remove: order does not matter, so the last shell fills the gap
+    private void removeAt(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        previousX[i] = previousX[last];
+        previousY[i] = previousY[last];
+        velocityX[i] = velocityX[last];
+        velocityY[i] = velocityY[last];
+        timeToLive[i] = timeToLive[last];
+        rotation[i] = rotation[last];
+        owners[i] = owners[last];
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        timeToLive = Arrays.copyOf(timeToLive, capacity);
+        rotation = Arrays.copyOf(rotation, capacity);
+        owners = Arrays.copyOf(owners, capacity);
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    public int getShellCount() {
+        return count;
+    }
+
+    // Position between the last two ticks, for drawing
+    public float getDrawX(int i, float alpha) {
+        return previousX[i] + (x[i] - previousX[i]) * alpha;
+    }
+
+    public float getDrawY(int i, float alpha) {
+        return previousY[i] + (y[i] - previousY[i]) * alpha;
+    }
+
+    public float getRotation(int i) {
+        return rotation[i];
+    }
+
+    // The frame every shell shows this tick
+    public TextureRegion getShellFrame() {
+        return shellAnimation.getKeyFrame(shellAnimationTime);
+    }
+
+    @Override
+    public long getLastUpdateNanos() {
+        return lastUpdateNanos;
+    }
+}
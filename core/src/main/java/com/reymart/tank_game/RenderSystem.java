@@ -0,0 +1,207 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+
+// Draws tanks, shells and enemy health bars, in that order, into an already begun batch.
+// Rendering runs once per frame rather than once per tick, so the engine's update skips this system;
+// GameWorld.render() calls draw() instead.
+// Anything whose drawn extent lies wholly outside the camera's view is skipped before it reaches the batch.
+// Drawing only reads components; animation times are advanced by the simulation.
+public class RenderSystem extends EntitySystem {
+    private static final float SHELL_SCALE = 0.8f;
+
+    private final GameWorld world;
+    private final OrthographicCamera camera;
+    private final TextureRegion pixel;
+    private ImmutableArray<Entity> tanks;
+    private EntityRegistry.Group healthBars;
+
+    // Visible area of the current frame
+    private float viewLeft;
+    private float viewRight;
+    private float viewBottom;
+    private float viewTop;
+
+    // Tanks, shells and health bars drawn and skipped during the last draw()
+    private int drawnCount;
+    private int culledCount;
+
+    public RenderSystem(GameWorld world, int priority) {
+        super(priority);
+        this.world = world;
+        this.camera = world.getCamera();
+        this.pixel = world.getAssets().getPixel();
+        setProcessing(false);
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        tanks = engine.getEntitiesFor(Family.all(PositionComponent.class, TankSpriteComponent.class, TurretComponent.class).get());
+        healthBars = world.getHealthBars();
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        tanks = null;
+        healthBars = null;
+    }
+
+    public void draw(Batch batch) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2;
+        viewLeft = camera.position.x - halfWidth;
+        viewRight = camera.position.x + halfWidth;
+        viewBottom = camera.position.y - halfHeight;
+        viewTop = camera.position.y + halfHeight;
+        drawnCount = 0;
+        culledCount = 0;
+
+        float alpha = world.getInterpolationAlpha();
+        for (int i = 0; i < tanks.size(); i++) {
+            Entity tank = tanks.get(i);
+            PositionComponent position = Mappers.position.get(tank);
+            float centerX = position.getDrawX(alpha) + position.width / 2f;
+            float centerY = position.getDrawY(alpha) + position.height / 2f;
+            float extent = getTankExtent(position, Mappers.tankSprite.get(tank));
+            if (isVisible(centerX - extent, centerY - extent, centerX + extent, centerY + extent)) {
+                drawTank(batch, tank, alpha);
+                drawnCount++;
+            } else {
+                culledCount++;
+            }
+        }
+        drawShells(batch, world.getProjectileSystem(), alpha);
+        for (int i = 0; i < healthBars.size(); i++) {
+            drawHealthBar(batch, healthBars.get(i), alpha);
+        }
+    }
+
+    private boolean isVisible(float left, float bottom, float right, float top) {
+        return right >= viewLeft && left <= viewRight && top >= viewBottom && bottom <= viewTop;
+    }
+
+    // Half the side of a square around the hull's centre that holds the scaled hull and turret at any rotation
+    private static float getTankExtent(PositionComponent position, TankSpriteComponent sprite) {
+        float hull = Vector2.len(position.width * sprite.bodyScaleX, position.height * sprite.bodyScaleY);
+        TextureRegion turretFrame = sprite.turretAnimation.getKeyFrame(sprite.animationTime);
+        float turret = Vector2.len(turretFrame.getRegionWidth() * sprite.turretScaleX, turretFrame.getRegionHeight() * sprite.turretScaleY);
+        return Math.max(hull, turret) / 2f;
+    }
+
+    public int getDrawnCount() {
+        return drawnCount;
+    }
+
+    public int getCulledCount() {
+        return culledCount;
+    }
+
+    private void drawTank(Batch batch, Entity entity, float alpha) {
+        PositionComponent position = Mappers.position.get(entity);
+        TankSpriteComponent sprite = Mappers.tankSprite.get(entity);
+        float drawX = position.getDrawX(alpha);
+        float drawY = position.getDrawY(alpha);
+
+        // If exploding, draw explosion animation
+        ExplosionComponent explosion = Mappers.explosion.get(entity);
+        if (explosion != null) {
+            TextureRegion explosionFrame = sprite.explosionAnimation.getKeyFrame(explosion.timer);
+            batch.draw(explosionFrame,
+                drawX, drawY,
+                position.width / 2f, position.height / 2f,
+                position.width, position.height,
+                sprite.bodyScaleX, sprite.bodyScaleY,
+                position.rotation
+            );
+            return;
+        }
+
+        Animation<TextureRegion> bodyAnimation = sprite.moving ? sprite.movingAnimation : sprite.idleAnimation;
+        TextureRegion bodyFrame = bodyAnimation.getKeyFrame(sprite.animationTime);
+        batch.draw(bodyFrame,
+            drawX, drawY,
+            position.width / 2f, position.height / 2f,
+            position.width, position.height,
+            sprite.bodyScaleX, sprite.bodyScaleY,
+            position.rotation
+        );
+
+        TextureRegion turretFrame = sprite.turretAnimation.getKeyFrame(sprite.animationTime);
+        float turretX = drawX + position.width / 2f - turretFrame.getRegionWidth() / 2f;
+        float turretY = drawY + position.height / 2f - turretFrame.getRegionHeight() / 2f;
+
+        batch.draw(turretFrame,
+            turretX,
+            turretY,
+            turretFrame.getRegionWidth() / 2f,
+            turretFrame.getRegionHeight() / 2f,
+            turretFrame.getRegionWidth(),
+            turretFrame.getRegionHeight(),
+            sprite.turretScaleX, sprite.turretScaleY,
+            Mappers.turret.get(entity).rotation
+        );
+    }
+
+    private void drawShells(Batch batch, ProjectileSystem shells, float alpha) {
+        TextureRegion frame = shells.getShellFrame();
+        float halfWidth = frame.getRegionWidth() / 2f;
+        float halfHeight = frame.getRegionHeight() / 2f;
+        float extent = Vector2.len(halfWidth, halfHeight) * SHELL_SCALE;
+        for (int i = 0; i < shells.getShellCount(); i++) {
+            float x = shells.getDrawX(i, alpha);
+            float y = shells.getDrawY(i, alpha);
+            float centerX = x + halfWidth;
+            float centerY = y + halfHeight;
+            if (!isVisible(centerX - extent, centerY - extent, centerX + extent, centerY + extent)) {
+                culledCount++;
+                continue;
+            }
+
+            drawnCount++;
+            batch.draw(frame,
+                x, y,
+                halfWidth,
+                halfHeight,
+                frame.getRegionWidth(),
+                frame.getRegionHeight(),
+                SHELL_SCALE, SHELL_SCALE,
+                shells.getRotation(i)
+            );
+        }
+    }
+
+    private void drawHealthBar(Batch batch, Entity entity, float alpha) {
+        PositionComponent position = Mappers.position.get(entity);
+        HealthComponent health = Mappers.health.get(entity);
+        HealthBarComponent bar = Mappers.healthBar.get(entity);
+
+        float barX = position.getDrawX(alpha) + position.width / 2 - bar.width / 2;
+        float barY = position.getDrawY(alpha) + position.height + bar.offsetY;
+        if (!isVisible(barX, barY, barX + bar.width, barY + bar.height)) {
+            culledCount++;
+            return;
+        }
+
+        drawnCount++;
+        float fraction = Math.max(0, Math.min(health.current, health.max)) / (float) health.max;
+        float previousColor = batch.getPackedColor();
+
+        // Red background, then the remaining health in green on top
+        batch.setColor(Color.RED);
+        batch.draw(pixel, barX, barY, bar.width, bar.height);
+        batch.setColor(Color.GREEN);
+        batch.draw(pixel, barX, barY, bar.width * fraction, bar.height);
+
+        batch.setPackedColor(previousColor);
+    }
+}
@@ -0,0 +1,252 @@
+package com.reymart.tank_game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.OrderedMap;
+
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Every native resource the game holds: textures, pixmaps, atlases, fonts, sounds, renderers and mapped files.
+// Each is registered with its owner, the stack it was created on and an estimate of its native size, and leaves
+// the registry when it is disposed through here or handed back to the AssetManager that loaded it.
+// Live counts and bytes per type are kept current, so reading them every frame costs nothing.
+//
+// checkReleased() is called when an owner goes away, such as an entity leaving the world; anything the owner
+// still holds is a leak and is logged with its creation site. Run with -Dtankgame.strictResources=true, as the
+// headless load test does, to throw instead. Renderers and other GPU buffers count as zero bytes.
+public final class ResourceTracker {
+    private static final Map<Disposable, Entry> live = new IdentityHashMap<>();
+    private static final Map<Object, Integer> ownerCounts = new IdentityHashMap<>();
+    private static final OrderedMap<Class<?>, TypeStats> types = new OrderedMap<>();
+    private static boolean strict = Boolean.getBoolean("tankgame.strictResources");
+    private static long liveBytes;
+
+    private ResourceTracker() {}
+
+    // Registers a resource with the object responsible for disposing it and returns the resource
+    public static <T extends Disposable> T track(T resource, Object owner) {
+        return track(resource, owner, estimateBytes(resource));
+    }
+
+    public static synchronized <T extends Disposable> T track(T resource, Object owner, long bytes) {
+        if (live.containsKey(resource)) {
+            throw new IllegalStateException("Already tracked: " + describe(resource, live.get(resource)));
+        }
+        live.put(resource, new Entry(owner, bytes, new Throwable("Created here")));
+        ownerCounts.merge(owner, 1, Integer::sum);
+        TypeStats stats = types.get(resource.getClass());
+        if (stats == null) {
+            stats = new TypeStats(resource.getClass().getSimpleName());
+            types.put(resource.getClass(), stats);
+        }
+        stats.count++;
+        stats.bytes += bytes;
+        liveBytes += bytes;
+        return resource;
+    }
+
+    // Stops tracking the resource and disposes it; null and untracked resources are handled too
+    public static void dispose(Disposable resource) {
+        if (resource == null) return;
+        untrack(resource);
+        resource.dispose();
+    }
+
+    // Stops tracking a resource that something else frees, such as the AssetManager that loaded it
+    public static synchronized void untrack(Disposable resource) {
+        Entry entry = live.remove(resource);
+        if (entry == null) return;
+        ownerCounts.computeIfPresent(entry.owner, (owner, count) -> count == 1 ? null : count - 1);
+        TypeStats stats = types.get(resource.getClass());
+        stats.count--;
+        stats.bytes -= entry.bytes;
+        liveBytes -= entry.bytes;
+    }
+
+    // Reports everything the owner still holds; call just before the owner goes away
+    public static void checkReleased(Object owner) {
+        String report;
+        synchronized (ResourceTracker.class) {
+            Integer count = ownerCounts.get(owner);
+            if (count == null) return;
+            StringBuilder text = new StringBuilder(describeOwner(owner)).append(" went away holding ").append(count).append(" resource(s)");
+            for (Map.Entry<Disposable, Entry> resource : live.entrySet()) {
+                if (resource.getValue().owner == owner) {
+                    text.append("\n  ").append(describe(resource.getKey(), resource.getValue()));
+                }
+            }
+            report = text.toString();
+        }
+        leak(report);
+    }
+
+    // Reports every resource still alive; call once everything has been disposed
+    public static void checkAllReleased(String context) {
+        String report;
+        synchronized (ResourceTracker.class) {
+            if (live.isEmpty()) return;
+            StringBuilder text = new StringBuilder(context).append(" left ").append(live.size()).append(" resource(s) alive");
+            for (Map.Entry<Disposable, Entry> resource : live.entrySet()) {
+                text.append("\n  ").append(describe(resource.getKey(), resource.getValue()));
+            }
+            report = text.toString();
+        }
+        leak(report);
+    }
+
+    private static void leak(String report) {
+        if (strict) {
+            throw new IllegalStateException(report);
+        }
+        if (Gdx.app != null) {
+            Gdx.app.error("ResourceTracker", report);
+        } else {
+            System.err.println(report);
+        }
+    }
+
+    public static synchronized void setStrict(boolean strict) {
+        ResourceTracker.strict = strict;
+    }
+
+    public static synchronized int getLiveCount() {
+        return live.size();
+    }
+
+    public static synchronized long getLiveBytes() {
+        return liveBytes;
+    }
+
+    // Resources of the given type and its subtypes
+    public static synchronized int getLiveCount(Class<? extends Disposable> type) {
+        int count = 0;
+        for (OrderedMap.Entry<Class<?>, TypeStats> entry : types.entries()) {
+            if (type.isAssignableFrom(entry.key)) count += entry.value.count;
+        }
+        return count;
+    }
+
+    public static synchronized long getLiveBytes(Class<? extends Disposable> type) {
+        long bytes = 0;
+        for (OrderedMap.Entry<Class<?>, TypeStats> entry : types.entries()) {
+            if (type.isAssignableFrom(entry.key)) bytes += entry.value.bytes;
+        }
+        return bytes;
+    }
+
+    // One "Type count (size)" item per type with live resources, in the order the types first appeared.
+    // Called by the overlay while it measures frames, so it walks the keys by index and allocates nothing.
+    public static synchronized void appendSummary(StringBuilder text) {
+        Array<Class<?>> keys = types.orderedKeys();
+        for (int i = 0; i < keys.size; i++) {
+            TypeStats stats = types.get(keys.get(i));
+            if (stats.count == 0) continue;
+            text.append(stats.name).append(' ').append(stats.count).append(" (");
+            PerfOverlay.appendFixed(text, stats.bytes / 1048576.0, 1);
+            text.append(" MB)  ");
+        }
+    }
+
+    // Native size from the resource's dimensions; zero for types whose size is not visible from Java
+    public static long estimateBytes(Disposable resource) {
+        if (resource instanceof Pixmap) {
+            return ((Pixmap) resource).getPixels().capacity();
+        }
+        if (resource instanceof Texture) {
+            Texture texture = (Texture) resource;
+            TextureData data = texture.getTextureData();
+            return (long) texture.getWidth() * texture.getHeight() * bytesPerPixel(data == null ? null : data.getFormat());
+        }
+        if (resource instanceof TextureAtlas) {
+            return textureBytes(((TextureAtlas) resource).getTextures());
+        }
+        if (resource instanceof BitmapFont) {
+            BitmapFont font = (BitmapFont) resource;
+            if (!font.ownsTexture()) return 0;
+            ObjectSet<Texture> textures = new ObjectSet<>();
+            Array<TextureRegion> regions = font.getRegions();
+            for (int i = 0; i < regions.size; i++) {
+                textures.add(regions.get(i).getTexture());
+            }
+            return textureBytes(textures);
+        }
+        return 0;
+    }
+
+    private static long textureBytes(ObjectSet<Texture> textures) {
+        long bytes = 0;
+        for (Texture texture : textures) {
+            bytes += estimateBytes(texture);
+        }
+        return bytes;
+    }
+
+    private static int bytesPerPixel(Pixmap.Format format) {
+        if (format == null) return 4;
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+
+    private static String describe(Disposable resource, Entry entry) {
+        return String.format(Locale.ROOT, "%s of %s, %d bytes, created at %s",
+            resource.getClass().getSimpleName(), describeOwner(entry.owner), entry.bytes, creationSite(entry.created));
+    }
+
+    private static String describeOwner(Object owner) {
+        if (owner instanceof String) return (String) owner;
+        return owner.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(owner));
+    }
+
+    // The first frame outside this class
+    private static String creationSite(Throwable created) {
+        for (StackTraceElement frame : created.getStackTrace()) {
+            if (!frame.getClassName().equals(ResourceTracker.class.getName())) {
+                return frame.toString();
+            }
+        }
+        return "unknown";
+    }
+
+    private static final class Entry {
+        final Object owner;
+        final long bytes;
+        final Throwable created;
+
+        Entry(Object owner, long bytes, Throwable created) {
+            this.owner = owner;
+            this.bytes = bytes;
+            this.created = created;
+        }
+    }
+
+    private static final class TypeStats {
+        final String name;
+        int count;
+        long bytes;
+
+        TypeStats(String name) {
+            this.name = name;
+        }
+    }
+}
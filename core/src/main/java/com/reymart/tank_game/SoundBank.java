@@ -0,0 +1,164 @@
+package com.reymart.tank_game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import java.util.Arrays;
+
+// Decodes every sound effect once and shares it between all tanks.
+// Decoding runs on this bank's own AssetManager thread, alongside the texture loading in Assets.
+// Each clip has a fixed number of voices; starting one more steals the oldest.
+// Positional sounds fade out with distance from the listener and are dropped beyond the cull radius.
+public class SoundBank implements Disposable {
+    public static final String TANK_FIRE = "sounds/tank-fire.wav";
+    public static final String TANK_HIT = "sounds/tank-hit.mp3";
+    public static final String EXPLOSION = "sounds/explosion.wav";
+    public static final String TANK_MOVING = "sounds/tank-moving.mp3";
+    public static final String TANK_IDLE = "sounds/tank-idle-engine.mp3";
+    public static final String TURRET_ROTATE = "sounds/tank-turret-rotate.mp3";
+
+    private static final float FULL_VOLUME_RADIUS = 1000f;
+    private static final float CULL_RADIUS = 2500f;
+    private static final int UPDATE_BUDGET_MILLIS = 4;
+
+    private final AssetManager manager = new AssetManager();
+    private final ObjectIntMap<String> voiceCounts = new ObjectIntMap<>();
+    private final ObjectMap<String, Clip> clips = new ObjectMap<>();
+    private final Vector2 listener = new Vector2();
+    private final GameEvents.AssetLoad loadEvent = new GameEvents.AssetLoad();
+    private boolean loaded;
+
+    // Queues every sound; call update() each frame or finishLoading() before playing anything
+    public SoundBank() {
+        loadEvent.begin();
+        register(TANK_FIRE, 8);
+        register(TANK_HIT, 6);
+        register(EXPLOSION, 6);
+        register(TANK_MOVING, 1);
+        register(TANK_IDLE, 1);
+        register(TURRET_ROTATE, 1);
+    }
+
+    private void register(String path, int maxVoices) {
+        manager.load(path, Sound.class);
+        voiceCounts.put(path, maxVoices);
+    }
+
+    // True once every sound is decoded
+    public boolean update() {
+        if (!loaded && manager.update(UPDATE_BUDGET_MILLIS)) {
+            onLoaded();
+        }
+        return loaded;
+    }
+
+    public void finishLoading() {
+        if (!loaded) {
+            manager.finishLoading();
+            onLoaded();
+        }
+    }
+
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    private void onLoaded() {
+        for (ObjectIntMap.Entry<String> entry : voiceCounts) {
+            Sound sound = manager.get(entry.key, Sound.class);
+            // The encoded size; the decoded samples the backend keeps are larger
+            ResourceTracker.track(sound, this, Gdx.files.internal(entry.key).length());
+            clips.put(entry.key, new Clip(sound, entry.value));
+        }
+        loaded = true;
+        loadEvent.path = "sounds";
+        loadEvent.commit();
+    }
+
+    public void setListenerPosition(float x, float y) {
+        listener.set(x, y);
+    }
+
+    public long play(String path, float volume) {
+        return clip(path).play(volume, false);
+    }
+
+    // Plays a sound emitted at (x, y); returns -1 if the source is too far away to be heard
+    public long play(String path, float volume, float x, float y) {
+        float attenuation = attenuation(x, y);
+        if (attenuation <= 0f) return -1;
+        return clip(path).play(volume * attenuation, false);
+    }
+
+    public long loop(String path, float volume) {
+        return clip(path).play(volume, true);
+    }
+
+    public void stop(String path) {
+        clip(path).stopAll();
+    }
+
+    // Silences every clip, including loops whose owner is gone
+    public void stopAll() {
+        for (Clip clip : clips.values()) {
+            clip.stopAll();
+        }
+    }
+
+    private float attenuation(float x, float y) {
+        float distance = listener.dst(x, y);
+        if (distance <= FULL_VOLUME_RADIUS) return 1f;
+        if (distance >= CULL_RADIUS) return 0f;
+        return 1f - (distance - FULL_VOLUME_RADIUS) / (CULL_RADIUS - FULL_VOLUME_RADIUS);
+    }
+
+    private Clip clip(String path) {
+        Clip clip = clips.get(path);
+        if (clip == null) throw new IllegalArgumentException("Unknown sound: " + path);
+        return clip;
+    }
+
+    @Override
+    public void dispose() {
+        // The manager owns the sounds
+        for (Clip clip : clips.values()) {
+            ResourceTracker.untrack(clip.sound);
+        }
+        clips.clear();
+        manager.dispose();
+    }
+
+    private static class Clip {
+        final Sound sound;
+        final long[] voices;
+        int nextVoice;
+
+        Clip(Sound sound, int maxVoices) {
+            this.sound = sound;
+            this.voices = new long[maxVoices];
+            Arrays.fill(voices, -1);
+        }
+
+        long play(float volume, boolean looping) {
+            // Steal the oldest voice once all slots are taken; stopping an id that already finished is a no-op
+            long oldest = voices[nextVoice];
+            if (oldest != -1) {
+                sound.stop(oldest);
+            }
+            long id = looping ? sound.loop(volume) : sound.play(volume);
+            voices[nextVoice] = id;
+            nextVoice = (nextVoice + 1) % voices.length;
+            return id;
+        }
+
+        void stopAll() {
+            sound.stop();
+            Arrays.fill(voices, -1);
+            nextVoice = 0;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IdentityMap;
+
+// Uniform grid over the world used as a broadphase for tank collision queries.
+// Tanks register their hitbox and re-register after moving; only tanks whose
+// covered cells changed are actually relinked. Cells and range arrays are kept
+// for reuse, so once the busiest cells have been seen the grid stops allocating.
+public class SpatialHash {
+    // Enough for the tanks that fit in one cell without overlapping
+    private static final int CELL_CAPACITY = 8;
+
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+    private final Array<Entity>[] cells;
+    // Each cell's entities' range arrays, index for index, so a query reads them without a map lookup
+    private final Array<int[]>[] cellRanges;
+    // Cell range currently covered by each registered entity: minColumn, minRow, maxColumn, maxRow
+    private final IdentityMap<Entity, int[]> ranges = new IdentityMap<>();
+    private final Array<int[]> spareRanges = new Array<>(false, 16);
+
+    @SuppressWarnings("unchecked")
+    public SpatialHash(float worldWidth, float worldHeight, float cellSize) {
+        this.cellSize = cellSize;
+        this.columns = MathUtils.ceil(worldWidth / cellSize);
+        this.rows = MathUtils.ceil(worldHeight / cellSize);
+        this.cells = (Array<Entity>[]) new Array<?>[columns * rows];
+        this.cellRanges = (Array<int[]>[]) new Array<?>[columns * rows];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new Array<>(false, CELL_CAPACITY);
+            cellRanges[i] = new Array<>(false, CELL_CAPACITY);
+        }
+    }
+
+    public void update(Entity entity, Rectangle bounds) {
+        int minColumn = column(bounds.x);
+        int minRow = row(bounds.y);
+        int maxColumn = column(bounds.x + bounds.width);
+        int maxRow = row(bounds.y + bounds.height);
+
+        int[] range = ranges.get(entity);
+        if (range == null) {
+            range = spareRanges.size > 0 ? spareRanges.pop() : new int[4];
+            ranges.put(entity, range);
+        } else if (range[0] == minColumn && range[1] == minRow && range[2] == maxColumn && range[3] == maxRow) {
+            return; // Still inside the same cells
+        } else {
+            unlink(entity, range);
+        }
+
+        range[0] = minColumn;
+        range[1] = minRow;
+        range[2] = maxColumn;
+        range[3] = maxRow;
+        for (int y = minRow; y <= maxRow; y++) {
+            for (int x = minColumn; x <= maxColumn; x++) {
+                cells[y * columns + x].add(entity);
+                cellRanges[y * columns + x].add(range);
+            }
+        }
+    }
+
+    public void remove(Entity entity) {
+        int[] range = ranges.remove(entity);
+        if (range != null) {
+            unlink(entity, range);
+            spareRanges.add(range);
+        }
+    }
+
+    // Collects every registered entity whose cells touch the area. Callers still do the exact overlap test.
+    public void query(Rectangle area, Array<Entity> out) {
+        out.clear();
+        int minColumn = column(area.x);
+        int minRow = row(area.y);
+        int maxColumn = column(area.x + area.width);
+        int maxRow = row(area.y + area.height);
+
+        for (int y = minRow; y <= maxRow; y++) {
+            for (int x = minColumn; x <= maxColumn; x++) {
+                Array<Entity> cell = cells[y * columns + x];
+                Array<int[]> rangesInCell = cellRanges[y * columns + x];
+                for (int i = 0; i < cell.size; i++) {
+                    // An entity spanning several cells is reported once, from the first of its cells the area
+                    // touches, so the output never has to be searched for duplicates
+                    int[] range = rangesInCell.get(i);
+                    if (x == Math.max(range[0], minColumn) && y == Math.max(range[1], minRow)) {
+                        out.add(cell.get(i));
+                    }
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < cells.length; i++) {
+            cells[i].clear();
+            cellRanges[i].clear();
+        }
+        for (int[] range : ranges.values()) {
+            spareRanges.add(range);
+        }
+        ranges.clear();
+    }
+
+    private void unlink(Entity entity, int[] range) {
+        for (int y = range[1]; y <= range[3]; y++) {
+            for (int x = range[0]; x <= range[2]; x++) {
+                // Both arrays are unordered, so removing the same index keeps them in step
+                int index = cells[y * columns + x].indexOf(entity, true);
+                cells[y * columns + x].removeIndex(index);
+                cellRanges[y * columns + x].removeIndex(index);
+            }
+        }
+    }
+
+    private int column(float x) {
+        return MathUtils.clamp((int) (x / cellSize), 0, columns - 1);
+    }
+
+    private int row(float y) {
+        return MathUtils.clamp((int) (y / cellSize), 0, rows - 1);
+    }
+}
@@ -3,211 +3,412 @@ package com.reymart.tank_game;
 
 import com.badlogic.gdx.ApplicationListener;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
+import java.io.File;
+import java.lang.management.ManagementFactory;
+
 public class TankGame extends InputAdapter implements ApplicationListener {
-    private static final float WORLD_WIDTH = 5000f;
-    private static final float WORLD_HEIGHT = 5000f;
+    private static final float WORLD_WIDTH = GameWorld.WORLD_WIDTH;
+    private static final float WORLD_HEIGHT = GameWorld.WORLD_HEIGHT;
+    // Minimum world area the viewport shows before zoom; independent of the map size
+    private static final float VIEWPORT_SIZE = 5000f;
     private static final float CAMERA_LERP_FACTOR = 0.1f;
     private static final float CAMERA_ZOOM_FACTOR = 10000f;
 
+    // The simulation always advances in fixed 60 Hz ticks, independent of the render rate
+    private static final float TICK_DURATION = 1f / 60f;
+    private static final int MAX_TICKS_PER_FRAME = 5;
+    private float tickAccumulator = 0f;
+
     private OrthographicCamera camera;
     private Viewport viewport;
     private SpriteBatch batch;
-    private Stage stage;
-    private PlayerTank playerTank;
+    private GameWorld world;
+    private SoundBank soundBank;
     private PlayerHealthUI playerHealthUI;
-    private TextureAtlas backgroundAtlas;
-    private EnemyTank[] enemyTanks;
-
-    private static final float SPAWN_INTERVAL = 3f;
-    private float timeSinceLastSpawn = 0;
+    private Assets assets;
+    private WorldBackground background;
 
     private PlayerScoreUI playerScoreUI;
     private static TankGame instance;
 
     private GameOverScreen gameOverScreen;
     private boolean isGameOver = false;
-
-    private static final int MAX_ENEMY_TANKS = 30;
-    private Array<EnemyTank> activeEnemyTanks;
+    private PerfOverlay perfOverlay;
+    private UiFonts uiFonts;
+    // Shown until the atlases, sounds and fonts have loaded; null afterwards
+    private LoadingScreen loadingScreen;
+    // Spans create() to the first frame that simulates the world and takes input
+    private GameEvents.Startup startupEvent;
+    private long createNanos;
+    private long timeToFirstInteractiveFrameNanos = -1;
+
+    // Run with -Dtankgame.allocationCheck=true to report every steady-state frame that allocates
+    private static final boolean ALLOCATION_CHECK = Boolean.getBoolean("tankgame.allocationCheck");
+    private static final int ALLOCATION_WARMUP_FRAMES = 300;
+    private FrameAllocationTracker allocationTracker;
+
+    // Run with -Dtankgame.glProfile=true to log texture binds and draw calls once a second.
+    // Off by default because the profiler checks glGetError after every GL call.
+    private static final boolean GL_PROFILE = Boolean.getBoolean("tankgame.glProfile");
+    private GLProfiler glProfiler;
+    private int lastFrameDrawCalls;
+    private int lastFrameTextureBindings;
+    private float glProfileLogTimer = 0f;
+
+    // Run with -Dtankgame.metricsFile=<path> to publish per-frame numbers through a memory-mapped ring
+    // that another process can tail; see FrameMetricsRing for the layout
+    private static final String METRICS_FILE = System.getProperty("tankgame.metricsFile");
+    private static final int METRICS_FRAMES = 1024;
+    private FrameMetricsRing frameMetrics;
+    private long frameNumber;
+    private int ticksThisFrame;
+
+    // Run with -Dtankgame.record=<path> to save every tick's input until the game ends, and with
+    // -Dtankgame.replay=<path> to play such a file back, log its tick and frame times and exit.
+    // -Dtankgame.seed=<n> fixes the world's random seed; a replay uses the seed it was recorded with.
+    private static final String RECORD_FILE = System.getProperty("tankgame.record");
+    private static final String REPLAY_FILE = System.getProperty("tankgame.replay");
+    private static final Long SEED = Long.getLong("tankgame.seed");
+    private InputRecording.Recorder recorder;
+    private InputRecording.Playback replay;
 
     @Override
     public void create() {
+        createNanos = System.nanoTime();
+        startupEvent = new GameEvents.Startup();
+        startupEvent.begin();
         instance = this;
-        activeEnemyTanks = new Array<>();
-        camera = new OrthographicCamera(WORLD_WIDTH / CAMERA_ZOOM_FACTOR, WORLD_HEIGHT / CAMERA_ZOOM_FACTOR);
+        camera = new OrthographicCamera(VIEWPORT_SIZE / CAMERA_ZOOM_FACTOR, VIEWPORT_SIZE / CAMERA_ZOOM_FACTOR);
         camera.position.set(WORLD_WIDTH / 2, WORLD_HEIGHT / 2, 0);
-        viewport = new ExtendViewport(WORLD_WIDTH, WORLD_HEIGHT, camera);
-        batch = new SpriteBatch();
-        stage = new Stage(viewport);
+        viewport = new ExtendViewport(VIEWPORT_SIZE, VIEWPORT_SIZE, camera);
+        batch = ResourceTracker.track(new SpriteBatch(), this);
         Gdx.input.setInputProcessor(this);
 
-        backgroundAtlas = new TextureAtlas(Gdx.files.internal("atlas/world.atlas"));
+        // Textures, sounds and fonts decode on their own threads while render() shows the loading screen;
+        // the world is built once they are all in
+        assets = new Assets();
+        soundBank = new SoundBank();
+        uiFonts = new UiFonts();
+        loadingScreen = new LoadingScreen(batch, assets);
+        background = new WorldBackground(WORLD_WIDTH, WORLD_HEIGHT);
+
+        glProfiler = new GLProfiler(Gdx.graphics);
+        setGlProfiling(GL_PROFILE);
+        perfOverlay = new PerfOverlay(batch, assets);
+        if (METRICS_FILE != null) {
+            frameMetrics = new FrameMetricsRing(new File(METRICS_FILE), METRICS_FRAMES);
+            ResourceTracker.track(frameMetrics, this, frameMetrics.getMappedBytes());
+        }
+    }
+
+    private void renderLoading() {
+        // Not short-circuited, so every loader gets its slice of the frame
+        boolean loaded = assets.update() & soundBank.update() & uiFonts.update();
 
-        createPlayerTank();
+        Gdx.gl.glClearColor(0.4f, 0.2f, 0.1f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        loadingScreen.render((assets.getProgress() + soundBank.getProgress() + (uiFonts.isLoaded() ? 1f : 0f)) / 3f);
+
+        if (loaded) {
+            onLoaded();
+        }
+    }
+
+    private void onLoaded() {
+        loadingScreen.dispose();
+        loadingScreen = null;
+
+        world = new GameWorld(camera, assets, soundBank);
+        if (REPLAY_FILE != null) {
+            replay = InputRecording.read(new File(REPLAY_FILE));
+            replay.prepare(world);
+        } else {
+            long seed = SEED != null ? SEED : System.nanoTime();
+            world.setSeed(seed);
+            if (RECORD_FILE != null) {
+                recorder = InputRecording.record(new File(RECORD_FILE), seed, world);
+            }
+        }
+        world.populate();
         createPlayerHealthUI();
         createPlayerScoreUI();
-        createEnemyTanks();
-        gameOverScreen = new GameOverScreen(batch, camera);
+        gameOverScreen = new GameOverScreen(batch, camera, uiFonts.getGameOverFont());
+
+        if (ALLOCATION_CHECK) {
+            allocationTracker = new FrameAllocationTracker();
+            allocationTracker.attachToCurrentThread();
+        }
     }
 
-    public void removeEnemyTank(EnemyTank tank) {
-        activeEnemyTanks.removeValue(tank, true);
+    // Startup time up to the first frame that simulates the world and takes input, logged once and
+    // recorded as a JFR event so regressions show up release over release
+    private void recordFirstInteractiveFrame() {
+        timeToFirstInteractiveFrameNanos = System.nanoTime() - createNanos;
+        long sinceJvmStartMillis = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        startupEvent.sinceJvmStartMillis = sinceJvmStartMillis;
+        startupEvent.commit();
+        startupEvent = null;
+        Gdx.app.log("TankGame", "First interactive frame " + timeToFirstInteractiveFrameNanos / 1_000_000 + " ms after create(), "
+            + sinceJvmStartMillis + " ms after JVM start");
+    }
+
+    // -1 until the first interactive frame has been drawn
+    public long getTimeToFirstInteractiveFrameNanos() {
+        return timeToFirstInteractiveFrameNanos;
     }
 
     public void showGameOver(int finalScore) {
         isGameOver = true;
         gameOverScreen.show(finalScore);
+        stopRecording();
+    }
+
+    private void stopRecording() {
+        if (recorder == null) return;
+        recorder.finish(world);
+        Gdx.app.log("TankGame", "Recorded " + recorder.getTicks() + " ticks to " + recorder.getPath());
+        recorder = null;
+    }
+
+    private void finishReplay() {
+        Gdx.app.log("TankGame", replay.getTimingReport());
+        String divergence = replay.checkResult(world);
+        if (divergence != null) {
+            Gdx.app.error("TankGame", divergence);
+        }
+        replay = null;
+        Gdx.app.exit();
     }
 
+    // Resets the live world in place: entities go back to their pools, while textures, sounds, fonts and
+    // the HUD are kept and simply read the new player tank
     public void restartGame() {
-        stage.clear();
-        activeEnemyTanks.clear();
+        GameEvents.Restart event = new GameEvents.Restart();
+        event.begin();
+        world.clear();
+        world.populate();
         isGameOver = false;
+        tickAccumulator = 0f;
         gameOverScreen.hide();
-        createPlayerTank();
-        createPlayerHealthUI();
-        createPlayerScoreUI();
-        createEnemyTanks();
+        event.commit();
     }
 
     private void createPlayerScoreUI() {
-        playerScoreUI = new PlayerScoreUI(playerTank, batch);
+        playerScoreUI = new PlayerScoreUI(world, batch, uiFonts.getScoreFont());
     }
 
     public static TankGame getInstance() {
         return instance;
     }
 
+    // Null until the assets have loaded
+    public GameWorld getWorld() {
+        return world;
+    }
+
     public PlayerScoreUI getPlayerScoreUI() {
         return playerScoreUI;
     }
 
-    private void createPlayerTank() {
-        TextureAtlas tankMovingAtlas = new TextureAtlas(Gdx.files.internal("atlas/tank_moving.atlas"));
-        TextureAtlas tankIdleAtlas = new TextureAtlas(Gdx.files.internal("atlas/tank_idle.atlas"));
-        TextureAtlas tankTurretAtlas = new TextureAtlas(Gdx.files.internal("atlas/tank_turret.atlas"));
-        TextureAtlas shellAtlas = new TextureAtlas(Gdx.files.internal("atlas/tank_shell.atlas"));
+    private void createPlayerHealthUI() {
+        playerHealthUI = new PlayerHealthUI(world, batch);
+    }
 
-        AnimationManager movingAnimation = new AnimationManager(tankMovingAtlas, Animation.PlayMode.LOOP);
-        AnimationManager idleAnimation = new AnimationManager(tankIdleAtlas, Animation.PlayMode.LOOP);
-        AnimationManager turretAnimation = new AnimationManager(tankTurretAtlas, Animation.PlayMode.LOOP);
-        AnimationManager shellAnimation = new AnimationManager(shellAtlas, Animation.PlayMode.LOOP);
+    @Override
+    public boolean keyDown(int keycode) {
+        if (world == null) return false; // Still loading
+        // Latched here so a press is not lost on a frame that runs no simulation tick
+        if (keycode == Input.Keys.SPACE && !isGameOver && replay == null) {
+            world.requestPlayerFire();
+            return true;
+        }
+        if (keycode == Input.Keys.F3) {
+            // The overlay shows draw calls, so profile GL while it is open
+            perfOverlay.toggle();
+            setGlProfiling(GL_PROFILE || perfOverlay.isVisible());
+            return true;
+        }
+        return false;
+    }
 
-        playerTank = new PlayerTank(movingAnimation, idleAnimation, turretAnimation, shellAnimation, stage);
-        stage.addActor(playerTank);
+    @Override
+    public void render() {
+        if (loadingScreen != null) {
+            renderLoading();
+            return;
+        }
+
+        long frameStart = System.nanoTime();
+        GameEvents.LongFrame frameEvent = GameEvents.beginFrame();
+        ticksThisFrame = 0;
+
+        if (allocationTracker == null) {
+            renderFrame();
+        } else {
+            allocationTracker.beginFrame();
+            renderFrame();
+            allocationTracker.endFrame();
+
+            if (allocationTracker.getFrameCount() > ALLOCATION_WARMUP_FRAMES && allocationTracker.getLastFrameBytes() > 0) {
+                Gdx.app.error("TankGame", "Frame " + allocationTracker.getFrameCount() + " allocated "
+                    + allocationTracker.getLastFrameBytes() + " bytes");
+            }
+        }
+
+        if (glProfiler.isEnabled()) {
+            sampleGlProfiler();
+        }
+        perfOverlay.render(world, Gdx.graphics.getDeltaTime(), lastFrameDrawCalls, lastFrameTextureBindings);
+
+        int enemies = world.getEnemyTanks().size();
+        int shells = world.getProjectileSystem().getShellCount();
+        GameEvents.endFrame(frameEvent, frameNumber, ticksThisFrame, enemies, shells);
+        if (frameMetrics != null) {
+            long now = System.nanoTime();
+            Runtime runtime = Runtime.getRuntime();
+            frameMetrics.write(now, now - frameStart, ticksThisFrame, enemies, shells,
+                world.getRenderSystem().getDrawnCount(), runtime.totalMemory() - runtime.freeMemory());
+        }
+        if (frameNumber == 0) {
+            recordFirstInteractiveFrame();
+        }
+        frameNumber++;
+
+        if (replay != null) {
+            replay.frameFinished(System.nanoTime() - frameStart);
+            if (replay.isFinished() || world.isPlayerDestroyed()) {
+                finishReplay();
+            }
+        }
     }
 
-    private void createPlayerHealthUI() {
-        playerHealthUI = new PlayerHealthUI(playerTank, batch);
+    private void sampleGlProfiler() {
+        lastFrameDrawCalls = glProfiler.getDrawCalls();
+        lastFrameTextureBindings = glProfiler.getTextureBindings();
+        glProfiler.reset();
+
+        if (GL_PROFILE) {
+            glProfileLogTimer += Gdx.graphics.getDeltaTime();
+            if (glProfileLogTimer >= 1f) {
+                glProfileLogTimer = 0f;
+                Gdx.app.log("TankGame", "draw calls " + lastFrameDrawCalls + ", texture binds " + lastFrameTextureBindings
+                    + ", drawn " + world.getRenderSystem().getDrawnCount() + ", culled " + world.getRenderSystem().getCulledCount());
+            }
+        }
+    }
+
+    public void setGlProfiling(boolean enabled) {
+        if (enabled) {
+            glProfiler.enable();
+        } else {
+            glProfiler.disable();
+        }
+        glProfiler.reset();
     }
 
-    private void createEnemyTanks() {
-        TextureAtlas enemyTankMovingAtlas = new TextureAtlas(Gdx.files.internal("atlas/enemy_tank_moving.atlas"));
-        TextureAtlas enemyTankIdleAtlas = new TextureAtlas(Gdx.files.internal("atlas/enemy_tank_idle.atlas"));
-        TextureAtlas enemyTankTurretAtlas = new TextureAtlas(Gdx.files.internal("atlas/enemy_tank_turret.atlas"));
-        TextureAtlas shellAtlas = new TextureAtlas(Gdx.files.internal("atlas/tank_shell.atlas"));
-        TextureAtlas explosionAtlas = new TextureAtlas(Gdx.files.internal("atlas/explosion.atlas"));
+    public boolean isGlProfiling() {
+        return glProfiler.isEnabled();
+    }
 
-        AnimationManager movingAnimation = new AnimationManager(enemyTankMovingAtlas, Animation.PlayMode.LOOP);
-        AnimationManager idleAnimation = new AnimationManager(enemyTankIdleAtlas, Animation.PlayMode.LOOP);
-        AnimationManager turretAnimation = new AnimationManager(enemyTankTurretAtlas, Animation.PlayMode.LOOP);
-        AnimationManager shellAnimation = new AnimationManager(shellAtlas, Animation.PlayMode.LOOP);
-        AnimationManager explosionAnimation = new AnimationManager(explosionAtlas, Animation.PlayMode.LOOP);
+    // Draw calls and texture binds of the last frame; only counted while GL profiling is on
+    public int getLastFrameDrawCalls() {
+        return lastFrameDrawCalls;
+    }
 
-        enemyTanks = new EnemyTank[3];
-        enemyTanks[0] = new EnemyTank(movingAnimation, idleAnimation, turretAnimation, shellAnimation, explosionAnimation, stage, playerTank, 2500f, 1000f);
-        enemyTanks[1] = new EnemyTank(movingAnimation, idleAnimation, turretAnimation, shellAnimation, explosionAnimation, stage, playerTank, 2000f, 2000f);
-        enemyTanks[2] = new EnemyTank(movingAnimation, idleAnimation, turretAnimation, shellAnimation, explosionAnimation, stage, playerTank, 3000f, 3000f);
+    public int getLastFrameTextureBindings() {
+        return lastFrameTextureBindings;
+    }
 
-        for (EnemyTank enemyTank : enemyTanks) {
-            stage.addActor(enemyTank);
-            activeEnemyTanks.add(enemyTank);
-        }
+    public FrameAllocationTracker getAllocationTracker() {
+        return allocationTracker;
     }
 
-    @Override
-    public void render() {
+    private void renderFrame() {
         Gdx.gl.glClearColor(0.4f, 0.2f, 0.1f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        float deltaTime = Gdx.graphics.getDeltaTime();
+        if (!isGameOver) {
+            runSimulationTicks(Gdx.graphics.getDeltaTime());
+            if (world.isPlayerDestroyed()) {
+                showGameOver(world.getScore());
+            }
+        }
 
         // Update camera position
-        float playerX = playerTank.getX();
-        float playerY = playerTank.getY();
+        PositionComponent playerPosition = Mappers.position.get(world.getPlayerTank());
+        float playerX = playerPosition.getDrawX(world.getInterpolationAlpha());
+        float playerY = playerPosition.getDrawY(world.getInterpolationAlpha());
         float cameraX = MathUtils.lerp(camera.position.x, playerX, CAMERA_LERP_FACTOR);
         float cameraY = MathUtils.lerp(camera.position.y, playerY, CAMERA_LERP_FACTOR);
         camera.position.set(cameraX, cameraY, 0);
         camera.zoom = 0.300f;
         camera.update();
+        soundBank.setListenerPosition(camera.position.x, camera.position.y);
 
         if (isGameOver) {
             batch.setProjectionMatrix(camera.combined);
             batch.begin();
-            batch.draw(backgroundAtlas.findRegion("world"), 0, 0, WORLD_WIDTH, WORLD_HEIGHT);
+            background.draw(batch, camera);
             batch.end();
             gameOverScreen.render();
             return;
         }
 
-        timeSinceLastSpawn += deltaTime;
-        if (timeSinceLastSpawn >= SPAWN_INTERVAL && activeEnemyTanks.size < MAX_ENEMY_TANKS) {
-            spawnEnemyTank();
-            timeSinceLastSpawn = 0;
-        }
-
-        stage.act(deltaTime);
-
+        long sectionStart = System.nanoTime();
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
-        batch.draw(backgroundAtlas.findRegion("world"), 0, 0, WORLD_WIDTH, WORLD_HEIGHT);
+        background.draw(batch, camera);
+        long backgroundEnd = System.nanoTime();
+        perfOverlay.recordSection(PerfOverlay.SECTION_BACKGROUND, backgroundEnd - sectionStart);
+        world.render(batch);
         batch.end();
-
-        stage.draw();
+        long worldEnd = System.nanoTime();
+        perfOverlay.recordSection(PerfOverlay.SECTION_WORLD_DRAW, worldEnd - backgroundEnd);
 
         playerHealthUI.render();
         playerScoreUI.render();
+        perfOverlay.recordSection(PerfOverlay.SECTION_UI, System.nanoTime() - worldEnd);
     }
 
-    private void spawnEnemyTank() {
-        float cameraLeft = camera.position.x - (camera.viewportWidth / 2);
-        float cameraRight = camera.position.x + (camera.viewportWidth / 2);
-        float cameraBottom = camera.position.y - (camera.viewportHeight / 2);
-        float cameraTop = camera.position.y + (camera.viewportHeight / 2);
-
-        float spawnX, spawnY;
-        do {
-            spawnX = MathUtils.random(0, WORLD_WIDTH);
-            spawnY = MathUtils.random(0, WORLD_HEIGHT);
-        } while (spawnX > cameraLeft && spawnX < cameraRight && spawnY > cameraBottom && spawnY < cameraTop);
-
-        TextureAtlas enemyTankMovingAtlas = new TextureAtlas(Gdx.files.internal("atlas/enemy_tank_moving.atlas"));
-        TextureAtlas enemyTankIdleAtlas = new TextureAtlas(Gdx.files.internal("atlas/enemy_tank_idle.atlas"));
-        TextureAtlas enemyTankTurretAtlas = new TextureAtlas(Gdx.files.internal("atlas/enemy_tank_turret.atlas"));
-        TextureAtlas shellAtlas = new TextureAtlas(Gdx.files.internal("atlas/tank_shell.atlas"));
-        TextureAtlas explosionAtlas = new TextureAtlas(Gdx.files.internal("atlas/explosion.atlas"));
+    private void runSimulationTicks(float frameTime) {
+        tickAccumulator += frameTime;
+
+        int ticks = 0;
+        while (tickAccumulator >= TICK_DURATION && ticks < MAX_TICKS_PER_FRAME && !world.isPlayerDestroyed()
+            && (replay == null || !replay.isFinished())) {
+            if (recorder != null) {
+                recorder.record(world);
+            }
+            if (replay != null) {
+                replay.beforeTick(world);
+            }
+            long tickStart = System.nanoTime();
+            world.step(TICK_DURATION);
+            if (replay != null) {
+                replay.afterTick(System.nanoTime() - tickStart);
+            }
+            perfOverlay.recordTick(world);
+            tickAccumulator -= TICK_DURATION;
+            ticks++;
+        }
+        ticksThisFrame = ticks;
 
-        AnimationManager movingAnimation = new AnimationManager(enemyTankMovingAtlas, Animation.PlayMode.LOOP);
-        AnimationManager idleAnimation = new AnimationManager(enemyTankIdleAtlas, Animation.PlayMode.LOOP);
-        AnimationManager turretAnimation = new AnimationManager(enemyTankTurretAtlas, Animation.PlayMode.LOOP);
-        AnimationManager shellAnimation = new AnimationManager(shellAtlas, Animation.PlayMode.LOOP);
-        AnimationManager explosionAnimation = new AnimationManager(explosionAtlas, Animation.PlayMode.LOOP);
+        // After a long stall drop the backlog instead of spiralling through catch-up ticks
+        if (ticks == MAX_TICKS_PER_FRAME && tickAccumulator >= TICK_DURATION) {
+            tickAccumulator %= TICK_DURATION;
+        }
 
-        EnemyTank newEnemyTank = new EnemyTank(movingAnimation, idleAnimation, turretAnimation, shellAnimation, explosionAnimation, stage, playerTank, spawnX, spawnY);
-        stage.addActor(newEnemyTank);
-        activeEnemyTanks.add(newEnemyTank);
+        world.setInterpolationAlpha(tickAccumulator / TICK_DURATION);
     }
 
     @Override
@@ -223,11 +424,19 @@ public class TankGame extends InputAdapter implements ApplicationListener {
 
     @Override
     public void dispose() {
-        if (stage != null) stage.dispose();
-        if (batch != null) batch.dispose();
-        if (backgroundAtlas != null) backgroundAtlas.dispose();
+        // Quitting mid-fight still ends the recording with the state reached
+        if (world != null) stopRecording();
+        ResourceTracker.dispose(batch);
         if (playerHealthUI != null) playerHealthUI.dispose();
         if (playerScoreUI != null) playerScoreUI.dispose();
         if (gameOverScreen != null) gameOverScreen.dispose();
+        if (background != null) background.dispose();
+        if (perfOverlay != null) perfOverlay.dispose();
+        if (loadingScreen != null) loadingScreen.dispose();
+        if (uiFonts != null) uiFonts.dispose();
+        ResourceTracker.dispose(frameMetrics);
+        if (assets != null) assets.dispose();
+        if (soundBank != null) soundBank.dispose();
+        ResourceTracker.checkAllReleased("TankGame.dispose()");
     }
 }
@@ -0,0 +1,34 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Pool;
+
+// Layered hull and turret animations of a tank, plus the explosion for tanks that can be destroyed.
+// The animations are shared with every tank of the same kind; only the animation time belongs to this tank.
+// AnimationSystem advances it each tick, so drawing never changes the component.
+public class TankSpriteComponent implements Component, Pool.Poolable {
+    public Animation<TextureRegion> movingAnimation;
+    public Animation<TextureRegion> idleAnimation;
+    public Animation<TextureRegion> turretAnimation;
+    public Animation<TextureRegion> explosionAnimation;
+    public float animationTime;
+    public float bodyScaleX = 1f;
+    public float bodyScaleY = 1f;
+    public float turretScaleX = 1f;
+    public float turretScaleY = 1f;
+    public boolean moving;
+
+    @Override
+    public void reset() {
+        movingAnimation = null;
+        idleAnimation = null;
+        turretAnimation = null;
+        explosionAnimation = null;
+        animationTime = 0f;
+        bodyScaleX = bodyScaleY = 1f;
+        turretScaleX = turretScaleY = 1f;
+        moving = false;
+    }
+}
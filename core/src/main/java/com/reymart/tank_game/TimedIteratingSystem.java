@@ -0,0 +1,25 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+// IteratingSystem that records how long its last update took
+public abstract class TimedIteratingSystem extends IteratingSystem implements TimedSystem {
+    private long lastUpdateNanos;
+
+    public TimedIteratingSystem(Family family, int priority) {
+        super(family, priority);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        long start = System.nanoTime();
+        super.update(deltaTime);
+        lastUpdateNanos = System.nanoTime() - start;
+    }
+
+    @Override
+    public long getLastUpdateNanos() {
+        return lastUpdateNanos;
+    }
+}
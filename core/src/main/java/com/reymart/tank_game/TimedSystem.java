@@ -0,0 +1,6 @@
+package com.reymart.tank_game;
+
+// A system that records how long its last update took, so the load test can profile each one on its own
+public interface TimedSystem {
+    long getLastUpdateNanos();
+}
@@ -0,0 +1,26 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+// Gun of a tank. Control systems aim it and request shots; WeaponSystem fires them once the cooldown allows.
+public class TurretComponent implements Component, Pool.Poolable {
+    public float rotation;
+    public float cooldown;
+    public float interval;
+    public boolean fireRequested;
+    public float muzzleLength; // How far past the hull edge shells appear
+    public float muzzleAngleOffset; // Angle between the turret rotation and the muzzle direction, in degrees
+    public float range;
+
+    @Override
+    public void reset() {
+        rotation = 0f;
+        cooldown = 0f;
+        interval = 0f;
+        fireRequested = false;
+        muzzleLength = 0f;
+        muzzleAngleOffset = 0f;
+        range = 0f;
+    }
+}
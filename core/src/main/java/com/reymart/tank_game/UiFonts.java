@@ -0,0 +1,106 @@
+package com.reymart.tank_game;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// The TrueType fonts of the HUD and the game over screen. FontCache prepares them on a background thread
+// while the loading screen runs; update() creates their textures on the render thread once they are ready.
+public class UiFonts implements Disposable {
+    private static final String FONT_PATH = "fonts/arial.ttf";
+
+    private final ExecutorService loader;
+    private final Future<FontCache.Prepared> pendingScore;
+    private final Future<FontCache.Prepared> pendingGameOver;
+    private BitmapFont score;
+    private BitmapFont gameOver;
+
+    public UiFonts() {
+        loader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "UiFonts loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        FreeTypeFontGenerator.FreeTypeFontParameter scoreStyle = new FreeTypeFontGenerator.FreeTypeFontParameter();
+        scoreStyle.size = 20;
+        scoreStyle.color = Color.WHITE;
+        scoreStyle.borderWidth = 2;
+        scoreStyle.borderColor = Color.BLACK;
+        pendingScore = loader.submit(() -> FontCache.prepare(FONT_PATH, scoreStyle));
+
+        FreeTypeFontGenerator.FreeTypeFontParameter gameOverStyle = new FreeTypeFontGenerator.FreeTypeFontParameter();
+        gameOverStyle.size = 48;
+        gameOverStyle.color = Color.RED;
+        gameOverStyle.borderWidth = 3;
+        gameOverStyle.borderColor = Color.BLACK;
+        pendingGameOver = loader.submit(() -> FontCache.prepare(FONT_PATH, gameOverStyle));
+        loader.shutdown();
+    }
+
+    // Uploads whichever fonts have finished preparing; true once both are ready
+    public boolean update() {
+        if (score == null && pendingScore.isDone()) {
+            score = ResourceTracker.track(take(pendingScore).upload(), this);
+        }
+        if (gameOver == null && pendingGameOver.isDone()) {
+            gameOver = ResourceTracker.track(take(pendingGameOver).upload(), this);
+        }
+        return isLoaded();
+    }
+
+    public boolean isLoaded() {
+        return score != null && gameOver != null;
+    }
+
+    private static FontCache.Prepared take(Future<FontCache.Prepared> pending) {
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GdxRuntimeException("Interrupted while loading fonts", e);
+        } catch (ExecutionException e) {
+            throw new GdxRuntimeException("Could not load " + FONT_PATH, e.getCause());
+        }
+    }
+
+    public BitmapFont getScoreFont() {
+        return score;
+    }
+
+    public BitmapFont getGameOverFont() {
+        return gameOver;
+    }
+
+    @Override
+    public void dispose() {
+        loader.shutdownNow();
+        if (score != null) {
+            ResourceTracker.dispose(score);
+        } else {
+            discard(pendingScore);
+        }
+        if (gameOver != null) {
+            ResourceTracker.dispose(gameOver);
+        } else {
+            discard(pendingGameOver);
+        }
+    }
+
+    // Frees the pages of a font that was prepared but never uploaded
+    private static void discard(Future<FontCache.Prepared> pending) {
+        if (!pending.isDone() || pending.isCancelled()) return;
+        try {
+            pending.get().discard();
+        } catch (InterruptedException | ExecutionException e) {
+            // Nothing was decoded
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+// Movement wanted for the current tick in pixels per second; set by control systems, applied by MovementSystem
+public class VelocityComponent implements Component, Pool.Poolable {
+    public float x;
+    public float y;
+
+    public void set(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public void setZero() {
+        x = y = 0f;
+    }
+
+    @Override
+    public void reset() {
+        setZero();
+    }
+}
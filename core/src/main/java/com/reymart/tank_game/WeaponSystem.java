@@ -0,0 +1,46 @@
+package com.reymart.tank_game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.math.MathUtils;
+
+// Fires the shots requested this tick once each turret's cooldown has run out.
+// Runs after ProjectileSystem so a new shell first moves on the following tick.
+public class WeaponSystem extends TimedIteratingSystem {
+    private final ProjectileSystem projectileSystem;
+    private final SoundBank soundBank;
+
+    public WeaponSystem(GameWorld world, int priority) {
+        super(Family.all(TurretComponent.class, PositionComponent.class).exclude(ExplosionComponent.class, DormantComponent.class).get(), priority);
+        this.projectileSystem = world.getProjectileSystem();
+        this.soundBank = world.getSoundBank();
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float delta) {
+        TurretComponent turret = Mappers.turret.get(entity);
+        if (turret.cooldown > 0) {
+            turret.cooldown -= delta;
+        }
+
+        if (!turret.fireRequested) return;
+        turret.fireRequested = false;
+        if (turret.cooldown > 0) return;
+
+        PositionComponent position = Mappers.position.get(entity);
+        float radians = (turret.rotation + turret.muzzleAngleOffset) * MathUtils.degreesToRadians;
+        float startX = position.x + position.width / 2 + (position.width / 2 + turret.muzzleLength) * MathUtils.cos(radians);
+        float startY = position.y + position.height / 2 + (position.height / 2 + turret.muzzleLength) * MathUtils.sin(radians);
+
+        projectileSystem.spawn(entity, startX, startY, turret.rotation, turret.range);
+        turret.cooldown = turret.interval;
+
+        boolean player = Mappers.player.has(entity);
+        GameEvents.shellFired(player, startX, startY, turret.rotation);
+        if (player) {
+            soundBank.play(SoundBank.TANK_FIRE, 2.0f);
+        } else {
+            soundBank.play(SoundBank.TANK_FIRE, 1f, position.x, position.y);
+        }
+    }
+}
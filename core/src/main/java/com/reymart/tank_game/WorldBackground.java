@@ -0,0 +1,201 @@
+package com.reymart.tank_game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.IntSet;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// The ground under the battle, split into square chunks that are streamed in around the camera.
+// Chunk images are decoded on a background thread and only uploaded as textures on the render thread.
+// A fixed number of chunk textures stay resident; when the cache is full the least recently drawn one goes,
+// so memory and load time follow the view rather than the size of the map.
+//
+// Chunk images are world/chunks/<column>_<row>.png, cut from the world picture by the sliceWorld Gradle task.
+// The picture covers PICTURE_CHUNKS by PICTURE_CHUNKS chunks, as it used to cover the whole world, and repeats
+// over larger maps.
+public class WorldBackground implements Disposable {
+    public static final float CHUNK_SIZE = 1000f;
+    // Has to match pictureChunks in the sliceWorld task
+    private static final int PICTURE_CHUNKS = 5;
+    private static final String CHUNK_DIRECTORY = "world/chunks/";
+    // About a second at 60 fps before a chunk that failed to decode is tried again
+    private static final int RETRY_FRAMES = 60;
+    // Chunks just outside the view are requested early so they are ready when they scroll in
+    private static final int PREFETCH_CHUNKS = 1;
+    private static final int CACHE_CAPACITY = 40;
+
+    private final int columns;
+    private final int rows;
+    private final ExecutorService decoder;
+    private final ConcurrentLinkedQueue<DecodedChunk> decoded = new ConcurrentLinkedQueue<>();
+    private final IntSet pending = new IntSet();
+    private final IntIntMap retryFrames = new IntIntMap(); // First frame a failed chunk may be requested again
+    private final IntMap<Chunk> resident = new IntMap<>();
+    private final Chunk[] slots = new Chunk[CACHE_CAPACITY];
+    private int frame;
+    private volatile boolean disposed;
+
+    public WorldBackground(float worldWidth, float worldHeight) {
+        this.columns = (int) Math.ceil(worldWidth / CHUNK_SIZE);
+        this.rows = (int) Math.ceil(worldHeight / CHUNK_SIZE);
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Chunk();
+        }
+        this.decoder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "WorldBackground decoder");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Uploads chunks finished since the last frame, requests any missing around the view and draws the visible ones
+    public void draw(Batch batch, OrthographicCamera camera) {
+        frame++;
+        uploadDecodedChunks();
+
+        float halfWidth = camera.viewportWidth * camera.zoom / 2;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2;
+        int minColumn = column(camera.position.x - halfWidth);
+        int maxColumn = column(camera.position.x + halfWidth);
+        int minRow = row(camera.position.y - halfHeight);
+        int maxRow = row(camera.position.y + halfHeight);
+
+        for (int row = Math.max(0, minRow - PREFETCH_CHUNKS); row <= Math.min(rows - 1, maxRow + PREFETCH_CHUNKS); row++) {
+            for (int column = Math.max(0, minColumn - PREFETCH_CHUNKS); column <= Math.min(columns - 1, maxColumn + PREFETCH_CHUNKS); column++) {
+                int key = row * columns + column;
+                Chunk chunk = resident.get(key);
+                if (chunk == null) {
+                    request(key, column, row);
+                    continue;
+                }
+
+                chunk.lastUsedFrame = frame;
+                if (column >= minColumn && column <= maxColumn && row >= minRow && row <= maxRow) {
+                    batch.draw(chunk.texture, column * CHUNK_SIZE, row * CHUNK_SIZE, CHUNK_SIZE, CHUNK_SIZE);
+                }
+            }
+        }
+    }
+
+    public int getResidentCount() {
+        return resident.size;
+    }
+
+    private void request(int key, int column, int row) {
+        if (frame < retryFrames.get(key, 0) || !pending.add(key)) return;
+        decoder.execute(() -> {
+            if (disposed) return;
+            FileHandle file = Gdx.files.internal(CHUNK_DIRECTORY + column % PICTURE_CHUNKS + "_" + row % PICTURE_CHUNKS + ".png");
+            try {
+                decoded.add(new DecodedChunk(key, decode(file)));
+            } catch (RuntimeException e) {
+                Gdx.app.error("WorldBackground", "Could not decode " + file.path(), e);
+                // Handed back without a pixmap so the render thread clears the request
+                decoded.add(new DecodedChunk(key, null));
+            }
+        });
+    }
+
+    // Runs on the decoder thread
+    private Pixmap decode(FileHandle file) {
+        GameEvents.AssetLoad event = new GameEvents.AssetLoad();
+        event.begin();
+        Pixmap chunk = ResourceTracker.track(new Pixmap(file), this);
+        if (event.shouldCommit()) {
+            event.path = file.path();
+            event.commit();
+        }
+        return chunk;
+    }
+
+    private void uploadDecodedChunks() {
+        DecodedChunk decodedChunk;
+        while ((decodedChunk = decoded.poll()) != null) {
+            pending.remove(decodedChunk.key);
+            if (decodedChunk.pixmap == null) {
+                retryFrames.put(decodedChunk.key, frame + RETRY_FRAMES);
+                continue;
+            }
+
+            Chunk chunk = leastRecentlyUsed();
+            if (chunk.texture != null) {
+                resident.remove(chunk.key);
+                ResourceTracker.dispose(chunk.texture);
+            }
+            chunk.key = decodedChunk.key;
+            chunk.texture = ResourceTracker.track(new Texture(decodedChunk.pixmap), this);
+            chunk.lastUsedFrame = frame;
+            ResourceTracker.dispose(decodedChunk.pixmap);
+            resident.put(chunk.key, chunk);
+        }
+    }
+
+    private Chunk leastRecentlyUsed() {
+        Chunk oldest = slots[0];
+        for (Chunk slot : slots) {
+            if (slot.texture == null) return slot;
+            if (slot.lastUsedFrame < oldest.lastUsedFrame) {
+                oldest = slot;
+            }
+        }
+        return oldest;
+    }
+
+    private int column(float x) {
+        return (int) Math.floor(x / CHUNK_SIZE);
+    }
+
+    private int row(float y) {
+        return (int) Math.floor(y / CHUNK_SIZE);
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        decoder.shutdown();
+        try {
+            decoder.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        DecodedChunk decodedChunk;
+        while ((decodedChunk = decoded.poll()) != null) {
+            ResourceTracker.dispose(decodedChunk.pixmap);
+        }
+        for (Chunk slot : slots) {
+            if (slot.texture != null) {
+                ResourceTracker.dispose(slot.texture);
+                slot.texture = null;
+            }
+        }
+        resident.clear();
+    }
+
+    private static final class Chunk {
+        int key;
+        Texture texture;
+        int lastUsedFrame;
+    }
+
+    private static final class DecodedChunk {
+        final int key;
+        final Pixmap pixmap;
+
+        DecodedChunk(int key, Pixmap pixmap) {
+            this.key = key;
+            this.pixmap = pixmap;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.reymart.tank_game.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Boots the headless backend without a render loop so that code running on any thread,
+ * such as a JMH benchmark, can build {@link com.reymart.tank_game.GameWorld GameWorlds}.
+ * Files, audio and a no-op GL are installed in the {@link Gdx} statics; nothing is ever drawn.
+ */
+public final class HeadlessEnvironment {
+    private static boolean started;
+
+    private HeadlessEnvironment() {
+    }
+
+    /** Starts the backend once per JVM; later calls do nothing. */
+    public static synchronized void start() {
+        if (started) return;
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // A negative rate skips the main loop, so the backend thread exits right after create()
+        configuration.updatesPerSecond = -1;
+        new HeadlessApplication(new ApplicationAdapter() {
+        }, configuration);
+        Gdx.gl = Gdx.gl20 = new HeadlessGL();
+        started = true;
+    }
+}
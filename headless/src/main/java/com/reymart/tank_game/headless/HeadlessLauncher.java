@@ -0,0 +1,79 @@
+package com.reymart.tank_game.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+import java.io.File;
+
+/**
+ * Runs the game simulation without a window, audio device or GPU and reports tick statistics.
+ * <p>
+ * Options: {@code --enemies 30,300,3000} (one run per count), {@code --ticks 3600} measured ticks,
+ * {@code --warmup 600} ticks before measuring, {@code --seed 1} for the random generator and
+ * {@code --parallel-ai false} to decide enemy AI on the simulation thread only.
+ * <p>
+ * {@code --replay battle.tgir} plays an input recording made with {@code -Dtankgame.record} instead,
+ * {@code --runs 3} times, and checks that every pass ends where the recording did.
+ */
+public class HeadlessLauncher {
+    public static void main(String[] args) {
+        int[] enemyCounts = {30, 300, 3000};
+        int ticks = 3600;
+        int warmup = 600;
+        long seed = 1L;
+        boolean parallelAi = true;
+        String replay = null;
+        int runs = 3;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--enemies":
+                    enemyCounts = parseCounts(value);
+                    break;
+                case "--ticks":
+                    ticks = Integer.parseInt(value);
+                    break;
+                case "--warmup":
+                    warmup = Integer.parseInt(value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--parallel-ai":
+                    parallelAi = Boolean.parseBoolean(value);
+                    break;
+                case "--replay":
+                    replay = value;
+                    break;
+                case "--runs":
+                    runs = Integer.parseInt(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        if (replay != null) {
+            new HeadlessApplication(new ReplayRun(new File(replay), runs), getDefaultConfiguration());
+        } else {
+            new HeadlessApplication(new LoadTest(enemyCounts, warmup, ticks, seed, parallelAi), getDefaultConfiguration());
+        }
+    }
+
+    private static int[] parseCounts(String value) {
+        String[] parts = value.split(",");
+        int[] counts = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            counts[i] = Integer.parseInt(parts[i].trim());
+        }
+        return counts;
+    }
+
+    private static HeadlessApplicationConfiguration getDefaultConfiguration() {
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // The load test does all its work in create(); no need to spin the render loop
+        configuration.updatesPerSecond = -1;
+        return configuration;
+    }
+}
@@ -0,0 +1,157 @@
+package com.reymart.tank_game.headless;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.reymart.tank_game.Assets;
+import com.reymart.tank_game.EnemyAiSystem;
+import com.reymart.tank_game.FrameAllocationTracker;
+import com.reymart.tank_game.GameWorld;
+import com.reymart.tank_game.Mappers;
+import com.reymart.tank_game.ResourceTracker;
+import com.reymart.tank_game.SoundBank;
+import com.reymart.tank_game.TimedSystem;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Runs one battle per configured enemy count and prints tick throughput, latency percentiles, allocation rate
+ * and the mean time each simulation system took per tick.
+ */
+class LoadTest extends ApplicationAdapter {
+    static final float TICK_DURATION = 1f / 60f;
+
+    private final int[] enemyCounts;
+    private final int warmupTicks;
+    private final int measuredTicks;
+    private final long seed;
+    private final boolean parallelAi;
+
+    private Assets assets;
+    private SoundBank soundBank;
+
+    LoadTest(int[] enemyCounts, int warmupTicks, int measuredTicks, long seed, boolean parallelAi) {
+        this.enemyCounts = enemyCounts;
+        this.warmupTicks = warmupTicks;
+        this.measuredTicks = measuredTicks;
+        this.seed = seed;
+        this.parallelAi = parallelAi;
+    }
+
+    @Override
+    public void create() {
+        Gdx.gl = Gdx.gl20 = new HeadlessGL();
+        // A native resource still held by an entity leaving the world, or by anything after shutdown, fails the run
+        ResourceTracker.setStrict(true);
+        assets = new Assets();
+        soundBank = new SoundBank();
+        assets.finishLoading();
+        soundBank.finishLoading();
+
+        try {
+            for (int enemyCount : enemyCounts) {
+                runScenario(enemyCount);
+            }
+        } finally {
+            soundBank.dispose();
+            assets.dispose();
+            Gdx.app.exit();
+        }
+        ResourceTracker.checkAllReleased("LoadTest");
+    }
+
+    private void runScenario(int enemyCount) {
+        GameWorld world = new GameWorld(new OrthographicCamera(), assets, soundBank);
+        world.setSeed(seed);
+        ScriptedPlayerInput input = new ScriptedPlayerInput();
+        world.setPlayerInput(input);
+        world.setMaxEnemyTanks(enemyCount);
+        world.getEngine().getSystem(EnemyAiSystem.class).setParallel(parallelAi);
+        world.populate();
+        world.spawnEnemyTanks(Math.max(0, enemyCount - world.getEnemyTanks().size()));
+
+        // The scripted player should survive the whole run so every scenario measures the same kind of fight
+        Mappers.health.get(world.getPlayerTank()).current = Integer.MAX_VALUE;
+
+        for (int i = 0; i < warmupTicks; i++) {
+            tick(world, input);
+        }
+
+        FrameAllocationTracker allocations = new FrameAllocationTracker();
+        allocations.attachToCurrentThread();
+        long[] tickNanos = new long[measuredTicks];
+        ImmutableArray<EntitySystem> systems = world.getSystems();
+        long[] systemNanos = new long[systems.size()];
+
+        allocations.beginFrame();
+        long runStart = System.nanoTime();
+        for (int i = 0; i < measuredTicks; i++) {
+            long tickStart = System.nanoTime();
+            tick(world, input);
+            tickNanos[i] = System.nanoTime() - tickStart;
+            for (int s = 0; s < systems.size(); s++) {
+                EntitySystem system = systems.get(s);
+                if (system instanceof TimedSystem) {
+                    systemNanos[s] += ((TimedSystem) system).getLastUpdateNanos();
+                }
+            }
+        }
+        long runNanos = System.nanoTime() - runStart;
+        allocations.endFrame();
+
+        report(enemyCount, world, tickNanos, runNanos, allocations);
+        reportSystems(systems, systemNanos, measuredTicks);
+        world.clear();
+    }
+
+    private void tick(GameWorld world, ScriptedPlayerInput input) {
+        if (input.shouldFire()) {
+            world.requestPlayerFire();
+        }
+        world.step(TICK_DURATION);
+        input.advance();
+    }
+
+    private void report(int enemyCount, GameWorld world, long[] tickNanos, long runNanos, FrameAllocationTracker allocations) {
+        long[] sorted = tickNanos.clone();
+        Arrays.sort(sorted);
+        double seconds = runNanos / 1e9;
+        double ticksPerSecond = tickNanos.length / seconds;
+
+        String allocation = allocations.isSupported()
+            ? String.format(Locale.ROOT, "%.1f KB/tick (%.2f MB/s)",
+                allocations.getLastFrameBytes() / 1024.0 / tickNanos.length,
+                allocations.getLastFrameBytes() / 1048576.0 / seconds)
+            : "n/a";
+
+        System.out.println(String.format(Locale.ROOT,
+            "enemies=%d alive=%d ticks=%d ticks/s=%.1f p50=%.3fms p99=%.3fms max=%.3fms alloc=%s",
+            enemyCount,
+            world.getEnemyTanks().size(),
+            tickNanos.length,
+            ticksPerSecond,
+            percentile(sorted, 0.50) / 1e6,
+            percentile(sorted, 0.99) / 1e6,
+            sorted[sorted.length - 1] / 1e6,
+            allocation));
+    }
+
+    static void reportSystems(ImmutableArray<EntitySystem> systems, long[] systemNanos, int ticks) {
+        StringBuilder line = new StringBuilder("  systems (us/tick):");
+        for (int s = 0; s < systems.size(); s++) {
+            EntitySystem system = systems.get(s);
+            if (!(system instanceof TimedSystem)) continue;
+            line.append(String.format(Locale.ROOT, " %s=%.1f",
+                system.getClass().getSimpleName().replace("System", ""), systemNanos[s] / 1e3 / Math.max(1, ticks)));
+        }
+        System.out.println(line);
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
@@ -0,0 +1,84 @@
+package com.reymart.tank_game.headless;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.reymart.tank_game.Assets;
+import com.reymart.tank_game.GameWorld;
+import com.reymart.tank_game.InputRecording;
+import com.reymart.tank_game.ResourceTracker;
+import com.reymart.tank_game.SoundBank;
+import com.reymart.tank_game.TimedSystem;
+
+import java.io.File;
+
+/**
+ * Plays an input recording back in a fresh world, as fast as the simulation runs, and prints tick time
+ * percentiles and the mean time each system took per tick. The first passes warm the JIT up; every pass
+ * has to end where the recorded game did, otherwise the run fails.
+ */
+class ReplayRun extends ApplicationAdapter {
+    private final File recording;
+    private final int runs;
+
+    private Assets assets;
+    private SoundBank soundBank;
+
+    ReplayRun(File recording, int runs) {
+        this.recording = recording;
+        this.runs = runs;
+    }
+
+    @Override
+    public void create() {
+        Gdx.gl = Gdx.gl20 = new HeadlessGL();
+        ResourceTracker.setStrict(true);
+        assets = new Assets();
+        soundBank = new SoundBank();
+        assets.finishLoading();
+        soundBank.finishLoading();
+
+        try {
+            for (int run = 1; run <= runs; run++) {
+                replay(run);
+            }
+        } finally {
+            soundBank.dispose();
+            assets.dispose();
+            Gdx.app.exit();
+        }
+        ResourceTracker.checkAllReleased("ReplayRun");
+    }
+
+    private void replay(int run) {
+        InputRecording.Playback playback = InputRecording.read(recording);
+        GameWorld world = new GameWorld(new OrthographicCamera(), assets, soundBank);
+        playback.prepare(world);
+        world.populate();
+
+        ImmutableArray<EntitySystem> systems = world.getSystems();
+        long[] systemNanos = new long[systems.size()];
+        while (!playback.isFinished() && !world.isPlayerDestroyed()) {
+            playback.beforeTick(world);
+            long tickStart = System.nanoTime();
+            world.step(LoadTest.TICK_DURATION);
+            playback.afterTick(System.nanoTime() - tickStart);
+            for (int s = 0; s < systems.size(); s++) {
+                EntitySystem system = systems.get(s);
+                if (system instanceof TimedSystem) {
+                    systemNanos[s] += ((TimedSystem) system).getLastUpdateNanos();
+                }
+            }
+        }
+
+        System.out.println("run " + run + ": " + playback.getTimingReport());
+        LoadTest.reportSystems(systems, systemNanos, playback.getTick());
+        String divergence = playback.checkResult(world);
+        world.clear();
+        if (divergence != null) {
+            throw new IllegalStateException(divergence);
+        }
+    }
+}
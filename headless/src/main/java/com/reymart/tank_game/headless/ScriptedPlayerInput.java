@@ -0,0 +1,43 @@
+package com.reymart.tank_game.headless;
+
+import com.badlogic.gdx.Input;
+import com.reymart.tank_game.PlayerInput;
+
+/**
+ * Drives the player tank without a keyboard: it keeps moving forward, swings the body
+ * left and right in turns and sweeps the turret continuously, so enemies get chased,
+ * approached and shot at the way a real fight would.
+ */
+class ScriptedPlayerInput implements PlayerInput {
+    private static final int TURN_PERIOD_TICKS = 240;
+    private static final int TURN_LENGTH_TICKS = 45;
+    static final int FIRE_PERIOD_TICKS = 12;
+
+    private long tick;
+
+    void advance() {
+        tick++;
+    }
+
+    boolean shouldFire() {
+        return tick % FIRE_PERIOD_TICKS == 0;
+    }
+
+    @Override
+    public boolean isKeyPressed(int keycode) {
+        long phase = tick % TURN_PERIOD_TICKS;
+        boolean secondHalf = (tick / TURN_PERIOD_TICKS) % 2 == 1;
+        switch (keycode) {
+            case Input.Keys.W:
+                return true;
+            case Input.Keys.A:
+                return phase < TURN_LENGTH_TICKS && !secondHalf;
+            case Input.Keys.D:
+                return phase < TURN_LENGTH_TICKS && secondHalf;
+            case Input.Keys.LEFT:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.reymart.tank_game.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.reymart.tank_game.FrameAllocationTracker;
+import com.reymart.tank_game.GameWorld;
+import com.reymart.tank_game.Mappers;
+import com.reymart.tank_game.TankGame;
+import org.junit.Test;
+
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Fails when a rendered frame of the running game allocates once the game has reached its steady state.
+ * <p>
+ * Where {@link SteadyStateAllocationTest} only ticks the simulation, this drives {@link TankGame#render()} itself on a
+ * {@link HeadlessGL} with a fixed frame time of one tick, so each frame also culls and batches the world, draws the
+ * health bars, the HUD text and the F3 overlay. The battle is fought twice as in that test and only the second
+ * run is measured.
+ */
+public class FrameAllocationTest {
+    private static final int ENEMIES = 100;
+    private static final int FRAMES = 1800;
+    private static final long LOADING_TIMEOUT_MILLIS = 60000;
+    private static final int SCREEN_WIDTH = 1280;
+    private static final int SCREEN_HEIGHT = 720;
+    private static final long SEED = 1L;
+
+    @Test
+    public void steadyStateFramesDoNotAllocate() {
+        FrameAllocationTracker allocations = new FrameAllocationTracker();
+        assumeTrue("This JVM cannot count allocated bytes per thread", allocations.isSupported());
+        allocations.attachToCurrentThread();
+
+        HeadlessEnvironment.start();
+        Graphics graphics = Gdx.graphics;
+        GL20 gl = Gdx.gl20;
+        Gdx.graphics = new FixedStepGraphics();
+        TankGame game = new TankGame();
+        try {
+            game.create();
+            game.resize(SCREEN_WIDTH, SCREEN_HEIGHT);
+            // Fonts are baked on a loader thread, so the loading screen runs for wall-clock time rather than frames
+            long deadline = System.currentTimeMillis() + LOADING_TIMEOUT_MILLIS;
+            while (game.getWorld() == null) {
+                if (System.currentTimeMillis() > deadline) fail("The assets did not load within " + LOADING_TIMEOUT_MILLIS + " ms");
+                game.render();
+                Thread.yield();
+            }
+            game.keyDown(Input.Keys.F3);
+
+            fight(game, null);
+            fight(game, allocations);
+        } finally {
+            game.dispose();
+            Gdx.graphics = graphics;
+            Gdx.gl = Gdx.gl20 = gl;
+        }
+    }
+
+    private static void fight(TankGame game, FrameAllocationTracker allocations) {
+        GameWorld world = game.getWorld();
+        world.setSeed(SEED);
+        game.restartGame();
+        ScriptedPlayerInput input = new ScriptedPlayerInput();
+        world.setPlayerInput(input);
+        world.setMaxEnemyTanks(ENEMIES);
+        world.spawnEnemyTanks(ENEMIES - world.getEnemyTanks().size());
+        Mappers.health.get(world.getPlayerTank()).current = Integer.MAX_VALUE;
+
+        for (int frame = 0; frame < FRAMES; frame++) {
+            if (input.shouldFire()) {
+                world.requestPlayerFire();
+            }
+            if (allocations != null) allocations.beginFrame();
+            game.render();
+            if (allocations != null) {
+                allocations.endFrame();
+                if (allocations.getLastFrameBytes() != 0) {
+                    fail("Frame " + frame + " of the repeated battle allocated " + allocations.getLastFrameBytes() + " bytes");
+                }
+            }
+            input.advance();
+        }
+    }
+
+    /**
+     * Reports one simulation tick per frame, and hands the GL to {@link com.badlogic.gdx.graphics.profiling.GLProfiler}
+     * through the {@link Gdx} statics so the overlay's draw call counts are live.
+     */
+    private static final class FixedStepGraphics extends MockGraphics {
+        @Override
+        public float getDeltaTime() {
+            return LoadTest.TICK_DURATION;
+        }
+
+        @Override
+        public GL20 getGL20() {
+            return Gdx.gl20;
+        }
+
+        @Override
+        public void setGL20(GL20 gl20) {
+            Gdx.gl = Gdx.gl20 = gl20;
+        }
+    }
+}
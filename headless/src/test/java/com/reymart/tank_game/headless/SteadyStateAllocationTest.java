@@ -0,0 +1,83 @@
+package com.reymart.tank_game.headless;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.reymart.tank_game.Assets;
+import com.reymart.tank_game.FrameAllocationTracker;
+import com.reymart.tank_game.GameWorld;
+import com.reymart.tank_game.Mappers;
+import com.reymart.tank_game.SoundBank;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Fails when a simulation tick allocates once the game has reached its steady state.
+ * <p>
+ * The same seeded battle is fought twice in one world. The first run loads classes, warms the JIT and grows every
+ * pool, array and map to the size this fight needs; the second run repeats it tick for tick, so any byte it
+ * allocates is garbage made afresh every time rather than a pool reaching a new high-water mark.
+ */
+public class SteadyStateAllocationTest {
+    private static final int ENEMIES = 100;
+    private static final int TICKS = 3600;
+    private static final long SEED = 1L;
+
+    private static Assets assets;
+    private static SoundBank soundBank;
+
+    @BeforeClass
+    public static void loadAssets() {
+        HeadlessEnvironment.start();
+        assets = new Assets();
+        soundBank = new SoundBank();
+        assets.finishLoading();
+        soundBank.finishLoading();
+    }
+
+    @AfterClass
+    public static void disposeAssets() {
+        soundBank.dispose();
+        assets.dispose();
+    }
+
+    @Test
+    public void steadyStateTicksDoNotAllocate() {
+        FrameAllocationTracker allocations = new FrameAllocationTracker();
+        assumeTrue("This JVM cannot count allocated bytes per thread", allocations.isSupported());
+        allocations.attachToCurrentThread();
+
+        GameWorld world = new GameWorld(new OrthographicCamera(), assets, soundBank);
+        fight(world, null);
+        world.clear();
+        fight(world, allocations);
+        world.clear();
+    }
+
+    private static void fight(GameWorld world, FrameAllocationTracker allocations) {
+        world.setSeed(SEED);
+        ScriptedPlayerInput input = new ScriptedPlayerInput();
+        world.setPlayerInput(input);
+        world.setMaxEnemyTanks(ENEMIES);
+        world.populate();
+        world.spawnEnemyTanks(ENEMIES - world.getEnemyTanks().size());
+        Mappers.health.get(world.getPlayerTank()).current = Integer.MAX_VALUE;
+
+        for (int tick = 0; tick < TICKS; tick++) {
+            if (input.shouldFire()) {
+                world.requestPlayerFire();
+            }
+            if (allocations != null) allocations.beginFrame();
+            world.step(LoadTest.TICK_DURATION);
+            if (allocations != null) {
+                allocations.endFrame();
+                if (allocations.getLastFrameBytes() != 0) {
+                    fail("Tick " + tick + " of the repeated battle allocated " + allocations.getLastFrameBytes() + " bytes");
+                }
+            }
+            input.advance();
+        }
+    }
+}